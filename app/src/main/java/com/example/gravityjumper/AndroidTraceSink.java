@@ -0,0 +1,19 @@
+// AndroidTraceSink.java
+package com.example.gravityjumper;
+
+import android.os.Trace;
+
+import com.example.gravityjumper.core.Tracing;
+
+// Forwards core Tracing sections to android.os.Trace so they show up in Perfetto/systrace captures
+public class AndroidTraceSink implements Tracing.Sink {
+    @Override
+    public void beginSection(String name) {
+        Trace.beginSection(name);
+    }
+
+    @Override
+    public void endSection() {
+        Trace.endSection();
+    }
+}
@@ -0,0 +1,45 @@
+// FrameStatsLog.java
+package com.example.gravityjumper;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.example.gravityjumper.core.FrameLogWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Per-session frame-stats logs in filesDir/framestats, one file per resume of the game.
+// Pull them with `adb shell run-as com.example.gravityjumper cat files/framestats/<file>` and
+// summarize with FrameLogReader's main().
+public class FrameStatsLog {
+    private static final String DIRECTORY = "framestats";
+    private static final String EXTENSION = ".gjfl";
+    // Oldest sessions are deleted beyond this many files
+    private static final int MAX_FILES = 10;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private FrameStatsLog() {
+    }
+
+    // Start a new session log, or null if it can't be created
+    public static FrameLogWriter open(Context context) {
+        long now = System.currentTimeMillis();
+        OutputStream out = SessionFiles.open(context, DIRECTORY, EXTENSION, MAX_FILES, now);
+        if (out == null) {
+            return null;
+        }
+        return new FrameLogWriter(out, BUFFER_SIZE, now);
+    }
+
+    public static void close(FrameLogWriter writer) {
+        try {
+            writer.close();
+            if (writer.getDroppedRecords() > 0) {
+                Log.w("FrameStatsLog", "Dropped " + writer.getDroppedRecords() + " records");
+            }
+        } catch (IOException e) {
+            Log.e("FrameStatsLog", "Error writing frame log: " + e.getMessage());
+        }
+    }
+}
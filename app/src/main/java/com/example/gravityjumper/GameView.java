@@ -4,56 +4,203 @@ package com.example.gravityjumper;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.content.pm.ApplicationInfo;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Looper;
+import android.os.Process;
+import android.os.Trace;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.view.Choreographer;
+import android.view.Display;
 import android.view.MotionEvent;
 import android.view.SurfaceHolder;
 import android.view.SurfaceView;
-import java.util.ArrayList;
-import java.util.List;
 
-public class GameView extends SurfaceView implements Runnable {
+import com.example.gravityjumper.core.CollectibleStore;
+import com.example.gravityjumper.core.FrameLogWriter;
+import com.example.gravityjumper.core.FramePhase;
+import com.example.gravityjumper.core.FrameTimings;
+import com.example.gravityjumper.core.GameListener;
+import com.example.gravityjumper.core.GravityDirection;
+import com.example.gravityjumper.core.InputRecorder;
+import com.example.gravityjumper.core.InputReplay;
+import com.example.gravityjumper.core.Level;
+import com.example.gravityjumper.core.LevelPipeline;
+import com.example.gravityjumper.core.ObstacleStore;
+import com.example.gravityjumper.core.PlayerBody;
+import com.example.gravityjumper.core.Simulation;
+import com.example.gravityjumper.core.Tracing;
+import com.example.gravityjumper.core.TripleBuffer;
+import com.example.gravityjumper.core.ViewportCuller;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Runs the game on two threads. The simulation thread ticks at a fixed rate and publishes a
+// WorldSnapshot after each batch of ticks; the render thread draws the newest snapshot on every
+// display frame. The snapshots go through a lock-free TripleBuffer, so neither thread waits for
+// the other and simulating the next tick overlaps drawing the last one.
+// Fields below are grouped by the thread that owns them; the UI thread only touches volatiles.
+public class GameView extends SurfaceView implements Choreographer.FrameCallback, GameListener,
+        SurfaceHolder.Callback {
+
+    // Fixed simulation tick rate; rendering interpolates between ticks
+    private static final int TICKS_PER_SECOND = 60;
+    private static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+    // Cap on catch-up ticks per wake-up of the simulation thread so a long stall can't snowball
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
+    // Levels generated ahead of the one being played
+    private static final int LEVEL_LOOKAHEAD = 2;
 
-    private Thread gameThread;
     private SurfaceHolder holder;
     private volatile boolean playing;
-    private Player player;
-    private Paint paint;
-    private Level currentLevel;
-    private GravityDirection currentGravity = GravityDirection.DOWN;
-    private boolean isSetup = false;
-
-    // Theme related variable
-    private LevelTheme currentTheme;
-
-    // Theme bitmaps
-    private Bitmap backgroundBitmap;
-    private Bitmap collectibleBitmap;
+    private Thread simulationThread;
+    private Thread renderThread;
+
+    // Simulation -> render hand-off; the three snapshots are reused for the whole session
+    private final TripleBuffer<WorldSnapshot> snapshots = new TripleBuffer<>(WorldSnapshot::new);
+    // Simulation -> UI thread: replaced whole whenever a score changes
+    private volatile ScoreState score = ScoreState.ZERO;
+
+    // Frame pacing of the render thread: vsync callbacks on its looper, or the plain sleep loop
+    private volatile FramePacing framePacing = FramePacing.VSYNC;
+    // Render mode asked for, and the one in use for the current surface. A surface can't switch
+    // between hardware and software canvases once locked with one, so the mode is latched when the
+    // surface is created. If the hardware canvas fails, hardwareFailed makes every later surface
+    // software; the failed surface itself draws nothing more.
+    private volatile RenderMode requestedRenderMode = RenderMode.HARDWARE;
+    private volatile RenderMode renderMode = RenderMode.HARDWARE;
+    private volatile boolean hardwareFailed = false;
+
+    // Set from the UI thread before the game starts; the simulation picks it up in setupGame()
+    private volatile LevelTheme initialTheme;
+    // Gravity chosen by touch on the UI thread; applied at the start of the next tick
+    private volatile GravityDirection pendingGravity = GravityDirection.DOWN;
+    // Frame phase timings, shown by timingOverlay when enabled (on by default in debuggable builds)
+    private volatile boolean timingOverlayEnabled;
+    // Per-session frame-stats log in app storage (on by default in debuggable builds)
+    private volatile boolean frameLogEnabled;
+    // Outline obstacle collision boxes over the level (on by default in debuggable builds)
+    private volatile boolean collisionBoxesEnabled;
+    // Record each game's gravity changes to app storage for replay (on by default)
+    private volatile boolean inputRecordingEnabled = true;
+    // Recorded game to play instead of taking touch input; set before the game starts
+    private volatile InputReplay replay;
+    private volatile int screenWidth;
+    private volatile int screenHeight;
+
+    // Generates upcoming levels off the simulation thread
+    private final ExecutorService levelGenerator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, "LevelGenerator");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     // Music manager
     private MusicManager musicManager;
 
-    // Game objects
-    private List<Obstacle> obstacles;
-    private List<Level.Collectible> collectibles;
+    // --- Simulation thread ---
+
+    // Headless game state; this view only feeds it input and draws snapshots of it
+    private Simulation simulation;
+    private boolean isSetup = false;
+    private GravityDirection currentGravity = GravityDirection.DOWN;
+    // Recording of this game's input, or null; kept open across pauses and closed by release()
+    private InputRecorder inputRecorder;
+    // Theme of the level being played
+    private LevelTheme currentTheme;
 
     // Camera/viewport variables
     private float cameraX = 0;
     private float cameraY = 0;
-    private int screenWidth;
-    private int screenHeight;
+    private float prevCameraX = 0;
+    private float prevCameraY = 0;
+    private boolean cameraSnapPending = false;
+
+    // Tick timing
+    private long lastTickNanos;
+    private long tickAccumulatorNanos;
+    // Simulation phase times summed over the session, handed to the renderer in each snapshot
+    private long inputTotalNanos;
+    private long updateTotalNanos;
+    private long collisionTotalNanos;
 
     // Score tracking variables
     private int totalScore = 0;
     private int highScore = 0;
 
-    public enum GravityDirection {
-        DOWN, UP, LEFT, RIGHT
+    // --- Render thread ---
+
+    private volatile Looper renderLooper;
+    private Choreographer choreographer;
+    private Paint paint;
+    private boolean renderReady = false;
+
+    private Player player;
+    // Static level geometry rendered once into bitmap tiles
+    private StaticLayerCache staticLayer;
+    // Filters obstacles and collectibles against the camera each frame
+    private final ViewportCuller culler = new ViewportCuller();
+    // Cached HUD text
+    private final HudRenderer hudRenderer = new HudRenderer();
+
+    private FrameTimings frameTimings;
+    private final TimingOverlay timingOverlay = new TimingOverlay();
+    // Whether the frame being drawn records timings; fixed for the whole frame
+    private boolean timingFrame;
+    // Simulation phase totals of the last snapshot drawn, to turn the snapshot's totals into per-frame times
+    private long drawnInputNanos;
+    private long drawnUpdateNanos;
+    private long drawnCollisionNanos;
+
+    private FrameLogWriter frameLog;
+    private long lastFrameStartNanos;
+    private long lastDrawnTick;
+    // Tick of the snapshot being drawn, for the simulation thread to recycle levels behind it
+    private volatile long drawnTick;
+    // Level of the last snapshot drawn, to log level transitions
+    private Level drawnLevel;
+
+    // Theme the snapshots ask for, and the level number it was asked for at
+    private LevelTheme renderTheme;
+    private int renderLevelNumber;
+
+    // Theme bitmaps
+    private Bitmap backgroundBitmap;
+    private Bitmap collectibleBitmap;
+    private Bitmap obstacleBitmap;
+    // Surface size backgroundBitmap was scaled to
+    private int backgroundWidth;
+    private int backgroundHeight;
+    // Theme and surface size assets were last requested at for a resize, so each is requested once
+    private LevelTheme requestedTheme;
+    private int requestedWidth;
+    private int requestedHeight;
+    // Where a background scaled for an old surface size is stretched to until the new one is ready
+    private final Rect backgroundRect = new Rect();
+    // Theme the bitmaps above belong to; lags renderTheme while the new theme is still decoding
+    private LevelTheme appliedTheme;
+    // Latest assets decoded by the ThemeAssetCache loader thread, picked up by the render thread
+    private final AtomicReference<ThemeAssets> pendingAssets = new AtomicReference<>();
+
+    public enum FramePacing {
+        VSYNC, // Start each frame from a Choreographer callback, using the vsync timestamp as the clock
+        SLEEP  // Sleep until the next frame is due
+    }
+
+    public enum RenderMode {
+        HARDWARE, // GPU-composited canvas from lockHardwareCanvas()
+        SOFTWARE  // CPU-rasterized canvas from lockCanvas()
     }
 
     public GameView(Context context) {
@@ -73,77 +220,85 @@ public class GameView extends SurfaceView implements Runnable {
 
     private void init(Context context) {
         holder = getHolder();
+        holder.addCallback(this);
         paint = new Paint();
         paint.setAntiAlias(true);
         musicManager = MusicManager.getInstance(context);
+        boolean debuggable = (context.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
+        timingOverlayEnabled = debuggable;
+        frameLogEnabled = debuggable;
+        collisionBoxesEnabled = debuggable;
 
-        // Initialize game object collections
-        obstacles = new ArrayList<>();
-        collectibles = new ArrayList<>();
+        // Route core trace sections (collisions, level generation) to android.os.Trace
+        Tracing.setSink(new AndroidTraceSink());
     }
 
     // Add method to set initial theme
     public void setInitialTheme(LevelTheme theme) {
-        this.currentTheme = theme;
-        // Load theme resources
-        loadThemeResources();
+        // Read by the simulation when it sets up; the render thread loads its assets from the first snapshot
+        this.initialTheme = theme;
+    }
+
+    // Load theme-specific resources from the shared asset cache, decoding on this thread on a miss
+    private void loadThemeResources() {
+        if (renderTheme != null) {
+            ThemeAssetCache cache = ThemeAssetCache.getInstance(getContext());
+            if (screenWidth > 0 && screenHeight > 0) {
+                cache.setSurfaceSize(screenWidth, screenHeight);
+            }
+            applyThemeAssets(cache.get(renderTheme));
+        }
+    }
+
+    private void applyThemeAssets(ThemeAssets assets) {
+        appliedTheme = assets.theme;
+        backgroundWidth = assets.surfaceWidth;
+        backgroundHeight = assets.surfaceHeight;
+        backgroundBitmap = assets.background;
+        collectibleBitmap = assets.collectible;
+        obstacleBitmap = assets.obstacle;
 
         // If player is already initialized, update its bitmap
         if (player != null) {
-            player.updatePlayerBitmap(getContext(), theme.themeName);
+            player.setBitmap(assets.player);
         }
     }
 
-    // Load theme-specific resources
-    private void loadThemeResources() {
-        if (currentTheme != null) {
-            try {
-                // Load background bitmap
-                int backgroundResId = getBackgroundResourceForTheme(currentTheme.themeName);
-                backgroundBitmap = BitmapFactory.decodeResource(getResources(), backgroundResId);
-
-                // Load collectible bitmap
-                int collectibleResId = getCollectibleResourceForTheme(currentTheme.themeName);
-                collectibleBitmap = BitmapFactory.decodeResource(getResources(), collectibleResId);
-            } catch (Exception e) {
-                Log.e("GameView", "Error loading theme resources: " + e.getMessage());
-            }
-        }
+    // Decode a theme on the asset loader thread; it lands in pendingAssets for the render thread
+    private void requestThemeAssets(LevelTheme theme) {
+        ThemeAssetCache.getInstance(getContext()).prefetch(theme, pendingAssets::set);
+    }
+
+    // Warm the cache with the theme the next level will use while this one is played
+    private void prefetchNextTheme() {
+        requestThemeAssets(LevelTheme.getThemeForLevel(renderLevelNumber + 1));
     }
 
-    // Helper method to get background resource based on theme
-    private int getBackgroundResourceForTheme(String themeName) {
-        switch(themeName) {
-            case "Classic":
-                return R.drawable.bg_classic;
-            case "Space":
-                return R.drawable.bg_space;
-            case "Underwater":
-                return R.drawable.bg_underwater;
-            case "Lava":
-                return R.drawable.bg_lava;
-            case "Forest":
-                return R.drawable.bg_forest;
-            default:
-                return R.drawable.bg_classic;
+    // Swap in the current theme's assets if the loader has them ready, either for a new theme or at
+    // a new surface size; returns whether the current theme is applied
+    private boolean swapInThemeAssets() {
+        ThemeAssets ready = pendingAssets.get();
+        if (ready != null && ready.theme == renderTheme && (appliedTheme != renderTheme
+                || ready.surfaceWidth != backgroundWidth || ready.surfaceHeight != backgroundHeight)) {
+            // Taken, so a stale size can't be swapped back in later
+            pendingAssets.compareAndSet(ready, null);
+            applyThemeAssets(ready);
+            prefetchNextTheme();
         }
+        return appliedTheme == renderTheme;
     }
 
-    // Helper method to get collectible resource based on theme
-    private int getCollectibleResourceForTheme(String themeName) {
-        switch(themeName) {
-            case "Classic":
-                return R.drawable.collectible_classic;
-            case "Space":
-                return R.drawable.collectible_space;
-            case "Underwater":
-                return R.drawable.collectible_underwater;
-            case "Lava":
-                return R.drawable.collectible_lava;
-            case "Forest":
-                return R.drawable.collectible_forest;
-            default:
-                return R.drawable.collectible_classic;
+    // Follow the theme of the snapshot being drawn. The previous theme stays on screen until the
+    // new one's assets are ready, rather than decoding on the render thread.
+    private void updateRenderTheme(WorldSnapshot snapshot) {
+        renderLevelNumber = snapshot.levelNumber;
+        if (snapshot.theme != renderTheme) {
+            renderTheme = snapshot.theme;
+            if (!swapInThemeAssets()) {
+                requestThemeAssets(renderTheme);
+            }
+        } else {
+            swapInThemeAssets();
         }
     }
 
@@ -155,132 +310,219 @@ public class GameView extends SurfaceView implements Runnable {
         Log.d("GameView", "Screen size: " + w + "x" + h);
     }
 
+    // --- Simulation thread ---
+
     private void setupGame() {
         if (!isSetup && screenWidth > 0 && screenHeight > 0) {
-            player = new Player(getContext());
-
-            // If theme is already set, update player bitmap
-            if (currentTheme != null) {
-                player.updatePlayerBitmap(getContext(), currentTheme.themeName);
+            // Adjust level size to be closer to screen size
+            int levelWidth = screenWidth * 2;  // Make level 2x screen width
+            int levelHeight = screenHeight * 2; // Make level 2x screen height
+            int startLevel = 1;
+
+            // A replay recreates the recorded game exactly: same level size, start level and gravity
+            InputReplay playback = replay;
+            if (playback != null) {
+                levelWidth = playback.getLevelWidth();
+                levelHeight = playback.getLevelHeight();
+                startLevel = playback.getStartLevel();
+                currentGravity = playback.getInitialGravity();
+                playback.rewind();
+            } else if (inputRecordingEnabled) {
+                inputRecorder = InputRecordings.open(getContext(), startLevel, levelWidth, levelHeight, currentGravity);
             }
 
-            Log.d("GameView", "Player created with size: " + player.getWidth() + "x" + player.getHeight());
+            // The first level starts with the player near the center of the level; the levels after it
+            // are generated ahead on a worker so completing a level doesn't stall the simulation
+            LevelPipeline levelPipeline = new LevelPipeline(levelWidth, levelHeight, LEVEL_LOOKAHEAD, levelGenerator);
+            // Finished levels are regenerated in place for later ones, but only after the render
+            // thread has stopped drawing them
+            levelPipeline.getLevelPool().setDeferredRecycling(true);
+            simulation = new Simulation(startLevel, levelPipeline);
+            simulation.setGravity(currentGravity);
+            simulation.setListener(this);
 
             // Load high score
             loadHighScore();
 
-            // Adjust level size to be closer to screen size
-            int levelWidth = screenWidth * 2;  // Make level 2x screen width
-            int levelHeight = screenHeight * 2; // Make level 2x screen height
-
             // If theme wasn't set externally, set the initial theme
-            if (currentTheme == null) {
-                currentTheme = LevelTheme.getThemeForLevel(1);
-                loadThemeResources();
+            currentTheme = initialTheme != null ? initialTheme : LevelTheme.getThemeForLevel(1);
+
+            // Start music for first level
+            musicManager.playMusicForTheme(0);
+
+            isSetup = true;
+
+            updateCamera();
+            snapCamera();
+            publishSnapshot();
+        }
+    }
+
+    private void runSimulation() {
+        lastTickNanos = System.nanoTime();
+        tickAccumulatorNanos = 0;
+
+        while (playing) {
+            if (!isSetup) {
+                // Wait for the view to be measured
+                setupGame();
+                if (!isSetup) {
+                    sleepNanos(TICK_NANOS);
+                    lastTickNanos = System.nanoTime();
+                    continue;
+                }
             }
 
-            currentLevel = new Level(1, getContext(), levelWidth, levelHeight);
+            long now = System.nanoTime();
+            tickAccumulatorNanos += now - lastTickNanos;
+            lastTickNanos = now;
 
-            // Get collectibles from the level
-            collectibles = currentLevel.getCollectibles();
+            // Run as many fixed ticks as the elapsed time calls for
+            int ticks = 0;
+            while (tickAccumulatorNanos >= TICK_NANOS && ticks < MAX_TICKS_PER_FRAME) {
+                update();
+                tickAccumulatorNanos -= TICK_NANOS;
+                ticks++;
+            }
 
-            // Get obstacles from the level
-            obstacles = currentLevel.getObstacles();
+            // Still behind after the catch-up cap: drop the backlog rather than fall further behind
+            if (tickAccumulatorNanos >= TICK_NANOS) {
+                tickAccumulatorNanos %= TICK_NANOS;
+            }
 
-            // Start music for first level
-            musicManager.playMusicForTheme(0);
+            if (ticks > 0) {
+                publishSnapshot();
+            }
 
-            isSetup = true;
+            // Levels left before the tick being drawn are no longer on screen and can be reused
+            simulation.getLevelPipeline().getLevelPool().release(drawnTick);
 
-            // Start the player near the center of the level
-            player.setX((float) levelWidth / 4);
-            player.setY((float) levelHeight / 4);
+            // Sleep only until the next tick is due
+            sleepNanos(TICK_NANOS - tickAccumulatorNanos - (System.nanoTime() - lastTickNanos));
+        }
+
+        // The app may be killed while paused; get the recording so far onto disk
+        if (inputRecorder != null) {
+            inputRecorder.flush(simulation.getTickCount());
         }
     }
 
     private void updateCamera() {
         // Center camera on player with some lookahead in the direction of movement
-        float lookAheadX = player.getVelocityX() * 3; // Look ahead based on velocity
-        float lookAheadY = player.getVelocityY() * 3;
+        PlayerBody body = simulation.getPlayer();
+        Level level = simulation.getLevel();
+        float lookAheadX = body.getVelocityX() * 3; // Look ahead based on velocity
+        float lookAheadY = body.getVelocityY() * 3;
 
         // Limit lookahead to reasonable values
         lookAheadX = Math.max(-100, Math.min(100, lookAheadX));
         lookAheadY = Math.max(-100, Math.min(100, lookAheadY));
 
-        cameraX = player.getX() + player.getWidth()/2 - (float) screenWidth /2 + lookAheadX;
-        cameraY = player.getY() + player.getHeight()/2 - (float) screenHeight /2 + lookAheadY;
+        cameraX = body.getX() + body.getWidth()/2 - (float) screenWidth /2 + lookAheadX;
+        cameraY = body.getY() + body.getHeight()/2 - (float) screenHeight /2 + lookAheadY;
 
         // Keep camera within level bounds with some margin
         float margin = 100; // Add margin to prevent player from disappearing
-        cameraX = Math.max(-margin, Math.min(cameraX, currentLevel.getLevelWidth() - screenWidth + margin));
-        cameraY = Math.max(-margin, Math.min(cameraY, currentLevel.getLevelHeight() - screenHeight + margin));
+        cameraX = Math.max(-margin, Math.min(cameraX, level.getLevelWidth() - screenWidth + margin));
+        cameraY = Math.max(-margin, Math.min(cameraY, level.getLevelHeight() - screenHeight + margin));
     }
 
-    @Override
-    public void run() {
-        while (playing) {
-            if (!isSetup && screenWidth > 0 && screenHeight > 0) {
-                setupGame();
-            }
-            if (isSetup) {
-                update();
-                draw();
-            }
-            control();
-        }
+    // Skip camera interpolation for the next frame (used after the player is teleported)
+    private void snapCamera() {
+        prevCameraX = cameraX;
+        prevCameraY = cameraY;
     }
 
     private void update() {
-        player.update(currentGravity);
-        currentLevel.checkCollisions(player);
-
-        // Update obstacles (if they have movement)
-        for (Obstacle obstacle : obstacles) {
-            obstacle.update();
-        }
+        Trace.beginSection("update");
+        try {
+            // Remember where the camera was at the start of this tick for interpolation
+            prevCameraX = cameraX;
+            prevCameraY = cameraY;
+
+            boolean timing = timingOverlayEnabled;
+            simulation.setCollisionTiming(timing);
+
+            // Drain input queued by the UI thread, or take the recorded input while a replay runs
+            long inputStart = System.nanoTime();
+            InputReplay playback = replay;
+            if (playback != null && !playback.isFinished(simulation)) {
+                currentGravity = playback.apply(simulation);
+            } else {
+                currentGravity = pendingGravity;
+                if (inputRecorder != null) {
+                    inputRecorder.gravity(simulation.getTickCount(), currentGravity);
+                }
+                simulation.setGravity(currentGravity);
+            }
 
-        updateCamera();
+            long tickStart = System.nanoTime();
+            simulation.tick();
 
-        // Check if level is completed
-        if (currentLevel.isCompleted()) {
-            // Add level score to total score
-            totalScore += currentLevel.getScore();
+            updateCamera();
 
-            // Update high score if needed
-            if (totalScore > highScore) {
-                highScore = totalScore;
-                saveHighScore();
+            if (timing) {
+                long collisionNanos = simulation.getLastCollisionNanos();
+                inputTotalNanos += tickStart - inputStart;
+                collisionTotalNanos += collisionNanos;
+                updateTotalNanos += System.nanoTime() - tickStart - collisionNanos;
             }
+        } finally {
+            Trace.endSection();
+        }
 
-            // Create next level with new theme
-            int nextLevel = currentLevel.getLevelNumber() + 1;
-            currentLevel = new Level(nextLevel, getContext(), currentLevel.getLevelWidth(), currentLevel.getLevelHeight());
+        // The player was moved to a new level this tick; don't interpolate across the jump
+        if (cameraSnapPending) {
+            snapCamera();
+            cameraSnapPending = false;
+        }
+    }
 
-            // Get collectibles from the new level
-            collectibles = currentLevel.getCollectibles();
+    // Copy the state after the last tick into the back snapshot and hand it to the render thread
+    private void publishSnapshot() {
+        WorldSnapshot snapshot = snapshots.getBackBuffer();
+        snapshot.capture(simulation, currentTheme, highScore);
+        snapshot.setCamera(prevCameraX, prevCameraY, cameraX, cameraY);
+        snapshot.setPhaseTotals(inputTotalNanos, updateTotalNanos, collisionTotalNanos);
+        snapshot.publishNanos = System.nanoTime();
+        snapshots.publish();
+
+        ScoreState published = score;
+        if (published.totalScore != totalScore || published.highScore != highScore) {
+            score = new ScoreState(totalScore, highScore);
+        }
+    }
 
-            // Get obstacles from the new level
-            obstacles = currentLevel.getObstacles();
+    @Override
+    public void onCollectiblePicked(Level level) {
+        SoundManager.getInstance(getContext()).playCollectSound();
+    }
 
-            // Update the theme for the new level
-            currentTheme = LevelTheme.getThemeForLevel(nextLevel);
+    @Override
+    public void onLevelCompleted(Level level) {
+        SoundManager.getInstance(getContext()).playLevelCompleteSound();
+    }
 
-            // Load new theme resources
-            loadThemeResources();
+    @Override
+    public void onLevelStarted(Level level) {
+        // The completed level's score has been banked by the simulation
+        totalScore = simulation.getTotalScore();
+
+        // Update high score if needed; replayed games don't count
+        if (totalScore > highScore && replay == null) {
+            highScore = totalScore;
+            saveHighScore();
+        }
 
-            // Update player bitmap for the new theme
-            player.updatePlayerBitmap(getContext(), currentTheme.themeName);
+        // Update the theme for the new level; the render thread swaps its assets in when it sees it
+        int nextLevel = level.getLevelNumber();
+        currentTheme = LevelTheme.getThemeForLevel(nextLevel);
 
-            // Start music for new theme
-            int themeIndex = (nextLevel - 1) % LevelTheme.getThemes().length;
-            musicManager.playMusicForTheme(themeIndex);
+        // Start music for new theme
+        int themeIndex = (nextLevel - 1) % LevelTheme.getThemes().length;
+        musicManager.playMusicForTheme(themeIndex);
 
-            // Reset player position
-            player.setX((float) currentLevel.getLevelWidth() / 4);
-            player.setY((float) currentLevel.getLevelHeight() / 4);
-            player.setVelocityX(0);
-            player.setVelocityY(0);
-        }
+        cameraSnapPending = true;
     }
 
     // Save high score to SharedPreferences
@@ -297,146 +539,405 @@ public class GameView extends SurfaceView implements Runnable {
         highScore = prefs.getInt("highScore", 0);
     }
 
-    private void draw() {
+    // --- Render thread ---
+
+    private void runRenderer() {
+        // The time spent paused isn't a slow frame
+        if (frameTimings != null) {
+            frameTimings.resetFrameClock();
+        }
+        lastFrameStartNanos = 0;
+
+        // One frame-stats log per run of the render thread, opened and closed on this thread
+        frameLog = frameLogEnabled ? FrameStatsLog.open(getContext()) : null;
+        drawnLevel = null;
+        try {
+            if (framePacing == FramePacing.VSYNC && runVsyncLoop()) {
+                return;
+            }
+            runSleepLoop();
+        } finally {
+            if (frameLog != null) {
+                FrameStatsLog.close(frameLog);
+                frameLog = null;
+            }
+        }
+    }
+
+    // Create the render-side objects once the first snapshot says what to draw
+    private void setupRenderer(WorldSnapshot snapshot) {
+        // Jank is measured against the display's refresh interval, not the tick rate
+        Display display = getDisplay();
+        float refreshRate = display != null ? display.getRefreshRate() : TICKS_PER_SECOND;
+        frameTimings = new FrameTimings((long) (1_000_000_000L / refreshRate));
+
+        player = new Player();
+
+        // Enough layer tiles for a screen at any tile alignment, plus a margin to scroll into, but
+        // no more than a sixteenth of the heap (ThemeAssetCache budgets an eighth). A small heap
+        // that can't hold a screen's tiles draws the level directly.
+        int tilesAcross = screenWidth / StaticLayerCache.TILE_SIZE + 2;
+        int tilesDown = screenHeight / StaticLayerCache.TILE_SIZE + 2;
+        int budgetTiles = (int) (Runtime.getRuntime().maxMemory() / 16 / StaticLayerCache.TILE_BYTES);
+        staticLayer = new StaticLayerCache(Math.min(tilesAcross * tilesDown + tilesAcross + tilesDown, budgetTiles));
+
+        Log.d("GameView", "Player created with size: " + snapshot.playerWidth + "x" + snapshot.playerHeight);
+
+        renderTheme = snapshot.theme;
+        renderLevelNumber = snapshot.levelNumber;
+        loadThemeResources();
+        prefetchNextTheme();
+
+        // Phase totals from before this renderer existed aren't this frame's
+        drawnInputNanos = snapshot.inputNanos;
+        drawnUpdateNanos = snapshot.updateNanos;
+        drawnCollisionNanos = snapshot.collisionNanos;
+        lastDrawnTick = snapshot.tick;
+
+        renderReady = true;
+    }
+
+    // Drive frames from Choreographer callbacks until paused.
+    // Returns false if Choreographer is unavailable so the caller can fall back to sleeping.
+    private boolean runVsyncLoop() {
+        try {
+            Looper.prepare();
+            choreographer = Choreographer.getInstance();
+        } catch (RuntimeException e) {
+            Log.w("GameView", "Choreographer unavailable, falling back to sleep pacing", e);
+            return false;
+        }
+
+        renderLooper = Looper.myLooper();
+        // pause() may have run before the looper was published; don't block in loop() if so
+        if (playing) {
+            choreographer.postFrameCallback(this);
+            Looper.loop();
+        }
+        renderLooper = null;
+        return true;
+    }
+
+    private void runSleepLoop() {
+        while (playing) {
+            long frameStart = System.nanoTime();
+            renderFrame(frameStart);
+            // Sleep only until the next frame is due, not a whole frame after an expensive draw
+            sleepNanos(TICK_NANOS - (System.nanoTime() - frameStart));
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!playing) {
+            Looper looper = Looper.myLooper();
+            if (looper != null) {
+                looper.quit();
+            }
+            return;
+        }
+        renderFrame(frameTimeNanos);
+        choreographer.postFrameCallback(this);
+    }
+
+    // Draw the newest snapshot, interpolated to frameTimeNanos
+    private void renderFrame(long frameTimeNanos) {
+        WorldSnapshot snapshot = snapshots.acquire();
+        if (snapshot == null) {
+            // The simulation hasn't set up yet
+            return;
+        }
+        if (!renderReady) {
+            setupRenderer(snapshot);
+        }
+        drawnTick = snapshot.tick;
+
+        Trace.beginSection("frame");
+        try {
+            long frameStartNanos = System.nanoTime();
+            timingFrame = timingOverlayEnabled;
+            if (timingFrame) {
+                frameTimings.beginFrame(frameStartNanos);
+                // Simulation time spent on the ticks since the last snapshot drawn
+                frameTimings.add(FramePhase.INPUT, snapshot.inputNanos - drawnInputNanos);
+                frameTimings.add(FramePhase.UPDATE, snapshot.updateNanos - drawnUpdateNanos);
+                frameTimings.add(FramePhase.COLLISION, snapshot.collisionNanos - drawnCollisionNanos);
+            }
+            drawnInputNanos = snapshot.inputNanos;
+            drawnUpdateNanos = snapshot.updateNanos;
+            drawnCollisionNanos = snapshot.collisionNanos;
+
+            updateRenderTheme(snapshot);
+
+            // Surface resized: decode the background at the new size on the loader thread so it
+            // blits 1:1 again; until it's swapped in, the old one is drawn scaled
+            int width = screenWidth;
+            int height = screenHeight;
+            if ((backgroundWidth != width || backgroundHeight != height)
+                    && (requestedTheme != renderTheme || requestedWidth != width || requestedHeight != height)) {
+                requestedTheme = renderTheme;
+                requestedWidth = width;
+                requestedHeight = height;
+                ThemeAssetCache.getInstance(getContext()).setSurfaceSize(width, height);
+                requestThemeAssets(renderTheme);
+            }
+
+            if (frameLog != null && snapshot.level != drawnLevel) {
+                frameLog.levelStarted(snapshot.tick, snapshot.levelNumber, snapshot.totalScore);
+            }
+            drawnLevel = snapshot.level;
+
+            // The snapshot's tick ends at its publish time; move from its start to its end over one tick
+            // after that. Vsync timestamps can predate the publish, so clamp rather than extrapolate back.
+            float alpha = (float) (frameTimeNanos - snapshot.publishNanos) / TICK_NANOS;
+            draw(snapshot, Math.max(0f, Math.min(1f, alpha)));
+
+            if (timingFrame) {
+                frameTimings.endFrame();
+            }
+            if (frameLog != null) {
+                long interval = lastFrameStartNanos != 0 ? frameStartNanos - lastFrameStartNanos : 0;
+                frameLog.frame(interval, System.nanoTime() - frameStartNanos, (int) (snapshot.tick - lastDrawnTick));
+            }
+            lastFrameStartNanos = frameStartNanos;
+            lastDrawnTick = snapshot.tick;
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    // Lock a canvas in the current surface's render mode, or return null if there's none this frame.
+    // Only one lock API is ever used on a surface: a software lock after the hardware renderer has
+    // connected would fail too, so a hardware failure switches to software from the next surface.
+    private Canvas lockCanvas() {
+        if (renderMode == RenderMode.SOFTWARE) {
+            return holder.lockCanvas();
+        }
+        if (hardwareFailed) {
+            return null;
+        }
+        try {
+            Canvas canvas = holder.lockHardwareCanvas();
+            if (canvas == null) {
+                hardwareFailed = true;
+                Log.w("GameView", "Hardware canvas unavailable, using software rendering from the next surface");
+            }
+            return canvas;
+        } catch (RuntimeException e) {
+            hardwareFailed = true;
+            Log.w("GameView", "Hardware canvas failed, using software rendering from the next surface", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void surfaceCreated(SurfaceHolder holder) {
+        renderMode = hardwareFailed ? RenderMode.SOFTWARE : requestedRenderMode;
+        Log.d("GameView", "Surface created, render mode " + renderMode);
+    }
+
+    @Override
+    public void surfaceChanged(SurfaceHolder holder, int format, int width, int height) {
+        // Size changes arrive through onSizeChanged()
+    }
+
+    @Override
+    public void surfaceDestroyed(SurfaceHolder holder) {
+    }
+
+    private void draw(WorldSnapshot snapshot, float alpha) {
         if (holder.getSurface().isValid()) {
-            Canvas canvas = holder.lockCanvas();
+            long lockStart = System.nanoTime();
+            Canvas canvas;
+            Trace.beginSection("lockCanvas");
+            try {
+                canvas = lockCanvas();
+            } finally {
+                Trace.endSection();
+            }
+            long drawStart = System.nanoTime();
+            if (timingFrame) {
+                frameTimings.add(FramePhase.LOCK_CANVAS, drawStart - lockStart);
+            }
             if (canvas != null) {
                 try {
+                    LevelTheme theme = snapshot.theme;
+
                     // Draw background with theme bitmap or color
-                    if (backgroundBitmap != null) {
-                        // Scale the background to fill the screen
-                        canvas.drawBitmap(backgroundBitmap, null,
-                                new android.graphics.Rect(0, 0, screenWidth, screenHeight), null);
-                    } else {
-                        // Fallback to color if bitmap is not available
-                        canvas.drawColor(currentTheme.backgroundColor);
+                    Trace.beginSection("drawBackground");
+                    try {
+                        if (backgroundBitmap != null && backgroundWidth == screenWidth
+                                && backgroundHeight == screenHeight) {
+                            // Background is pre-scaled to the screen, so this is a plain 1:1 blit
+                            canvas.drawBitmap(backgroundBitmap, 0, 0, null);
+                        } else if (backgroundBitmap != null) {
+                            // Scaled for the old size while the resized one decodes
+                            backgroundRect.set(0, 0, screenWidth, screenHeight);
+                            canvas.drawBitmap(backgroundBitmap, null, backgroundRect, null);
+                        } else {
+                            // Fallback to color if bitmap is not available
+                            canvas.drawColor(theme.backgroundColor);
+                        }
+                    } finally {
+                        Trace.endSection();
                     }
 
                     // Save canvas state before translating
                     canvas.save();
 
-                    // Apply camera translation
-                    canvas.translate(-cameraX, -cameraY);
-
-                    // Draw obstacles
-                    for (Obstacle obstacle : obstacles) {
-                        // Let the obstacle draw itself (it has its own bitmap)
-                        obstacle.draw(canvas);
-
-                        // Debug: Draw a more accurate collision box
-                        paint.setColor(Color.RED);
-                        paint.setStyle(Paint.Style.STROKE);
-                        paint.setStrokeWidth(2);
-
-                        // These values should match those in the isColliding method
-                        float collisionX = obstacle.getX() + obstacle.getWidth() * 0.1f;
-                        float collisionY = obstacle.getY() + obstacle.getHeight() * 0.2f;
-                        float collisionWidth = obstacle.getWidth() * 0.8f;
-                        float collisionHeight = obstacle.getHeight() * 0.6f;
-
-                        canvas.drawRect(collisionX, collisionY,
-                                collisionX + collisionWidth,
-                                collisionY + collisionHeight,
-                                paint);
-
-                        paint.setStyle(Paint.Style.FILL);
-                        paint.setStrokeWidth(1);
+                    // Apply camera translation, interpolated between ticks
+                    float renderCameraX = snapshot.getCameraRenderX(alpha);
+                    float renderCameraY = snapshot.getCameraRenderY(alpha);
+                    canvas.translate(-renderCameraX, -renderCameraY);
+
+                    Level level = snapshot.level;
+
+                    // Cull everything against the camera rect before drawing
+                    float viewRight = renderCameraX + screenWidth;
+                    float viewBottom = renderCameraY + screenHeight;
+                    culler.setView(renderCameraX, renderCameraY, viewRight, viewBottom);
+                    int spriteWidth = obstacleBitmap != null ? obstacleBitmap.getWidth() : 0;
+                    int spriteHeight = obstacleBitmap != null ? obstacleBitmap.getHeight() : 0;
+                    int visibleObstacles = culler.cullObstacles(level, spriteWidth, spriteHeight);
+
+                    // Draw walls, platforms and goal from the cached static layer; only the tiles
+                    // under the camera are blitted. Fall back to drawing the visible ones directly
+                    // if the layer couldn't get memory for its tiles. Moving obstacles aren't in the layer.
+                    Trace.beginSection("drawObstacles");
+                    try {
+                        staticLayer.setContent(level, obstacleBitmap, theme.goalColor);
+                        boolean layered = staticLayer.draw(canvas, renderCameraX, renderCameraY, viewRight, viewBottom);
+                        ObstacleStore obstacles = level.getObstacleStore();
+                        for (int i = 0; i < visibleObstacles; i++) {
+                            int index = culler.getVisibleObstacle(i);
+                            if (!layered || obstacles.getSpeed(index) != 0) {
+                                StaticLayerCache.drawObstacle(canvas, obstacles, index, obstacleBitmap, paint);
+                            }
+                        }
+                        if (!layered && culler.isVisible(level.getGoalLeft(), level.getGoalTop(),
+                                level.getGoalRight(), level.getGoalBottom())) {
+                            StaticLayerCache.drawGoal(canvas, level, theme.goalColor, paint);
+                        }
+                        if (collisionBoxesEnabled) {
+                            for (int i = 0; i < visibleObstacles; i++) {
+                                StaticLayerCache.drawCollisionBox(canvas, obstacles, culler.getVisibleObstacle(i), paint);
+                            }
+                        }
+                    } finally {
+                        Trace.endSection();
                     }
 
-                    // Draw collectibles
-                    for (Level.Collectible collectible : collectibles) {
-                        if (!collectible.isCollected()) {
+                    // Draw collectibles, with collected flags as of the snapshot's tick
+                    Trace.beginSection("drawCollectibles");
+                    try {
+                        CollectibleStore collectibles = level.getCollectibleStore();
+                        float radius = CollectibleStore.RADIUS;
+                        int visibleCollectibles = culler.cullCollectibles(collectibles, snapshot.getCollected(), radius);
+                        for (int i = 0; i < visibleCollectibles; i++) {
+                            int index = culler.getVisibleCollectible(i);
+                            float x = collectibles.getX(index);
+                            float y = collectibles.getY(index);
                             if (collectibleBitmap != null) {
-                                // Draw collectible with bitmap
-                                int size = 40; // Size of collectible
-                                canvas.drawBitmap(collectibleBitmap,
-                                        collectible.getX() - size/2,
-                                        collectible.getY() - size/2, paint);
+                                // Draw collectible with bitmap (pre-scaled by ThemeAssetCache)
+                                int size = ThemeAssetCache.COLLECTIBLE_SIZE;
+                                canvas.drawBitmap(collectibleBitmap, x - size/2, y - size/2, paint);
                             } else {
                                 // Fallback to circle if bitmap is not available
-                                paint.setColor(currentTheme.collectibleColor);
-                                canvas.drawCircle(collectible.getX(), collectible.getY(),
-                                        collectible.getRadius(), paint);
+                                paint.setColor(theme.collectibleColor);
+                                canvas.drawCircle(x, y, radius, paint);
                             }
                         }
+                    } finally {
+                        Trace.endSection();
                     }
 
                     // Draw player
-                    player.draw(canvas, paint, currentTheme.playerColor);
-
-                    // Debug: Draw a reference point at player position for clarity
-                    paint.setColor(Color.GREEN);
-                    canvas.drawCircle(player.getX() + player.getWidth()/2,
-                            player.getY() + player.getHeight()/2,
-                            5, paint);
+                    Trace.beginSection("drawPlayer");
+                    try {
+                        player.draw(canvas, paint, snapshot, alpha);
+
+                        // Debug: Draw a reference point at player position for clarity
+                        paint.setColor(Color.GREEN);
+                        canvas.drawCircle(snapshot.getPlayerRenderX(alpha) + snapshot.playerWidth/2,
+                                snapshot.getPlayerRenderY(alpha) + snapshot.playerHeight/2,
+                                5, paint);
+                    } finally {
+                        Trace.endSection();
+                    }
 
                     // Restore canvas to original state
                     canvas.restore();
 
                     // Draw HUD elements with theme text color
-                    paint.setColor(currentTheme.textColor);
-                    paint.setTextSize(40);
-
-                    // Draw theme name
-                    canvas.drawText("Theme: " + currentTheme.themeName, 20, 60, paint);
-
-                    // Draw current gravity direction
-                    canvas.drawText("Gravity: " + currentGravity.toString(), 20, 110, paint);
-
-                    // Draw level number
-                    canvas.drawText("Level: " + currentLevel.getLevelNumber(), 20, 160, paint);
-
-                    // Draw current level score
-                    canvas.drawText("Level Score: " + currentLevel.getScore(), 20, 210, paint);
-
-                    // Draw total score
-                    canvas.drawText("Total Score: " + totalScore, 20, 260, paint);
-
-                    // Draw high score
-                    canvas.drawText("High Score: " + highScore, 20, 310, paint);
-
-                    // Draw direction indicator arrow with theme color
-                    paint.setColor(currentTheme.textColor);
-                    paint.setStrokeWidth(5);
-                    float arrowSize = 60;
-                    float centerX = (float) screenWidth / 2;
-                    float centerY = screenHeight - 100;
-
-                    // Draw arrow pointing in current gravity direction
-                    switch (currentGravity) {
-                        case UP:
-                            canvas.drawLine(centerX, centerY, centerX, centerY - arrowSize, paint);
-                            canvas.drawLine(centerX, centerY - arrowSize, centerX - arrowSize/2, centerY - arrowSize/2, paint);
-                            canvas.drawLine(centerX, centerY - arrowSize, centerX + arrowSize/2, centerY - arrowSize/2, paint);
-                            break;
-                        case DOWN:
-                            canvas.drawLine(centerX, centerY, centerX, centerY + arrowSize, paint);
-                            canvas.drawLine(centerX, centerY + arrowSize, centerX - arrowSize/2, centerY + arrowSize/2, paint);
-                            canvas.drawLine(centerX, centerY + arrowSize, centerX + arrowSize/2, centerY + arrowSize/2, paint);
-                            break;
-                        case LEFT:
-                            canvas.drawLine(centerX, centerY, centerX - arrowSize, centerY, paint);
-                            canvas.drawLine(centerX - arrowSize, centerY, centerX - arrowSize/2, centerY - arrowSize/2, paint);
-                            canvas.drawLine(centerX - arrowSize, centerY, centerX - arrowSize/2, centerY + arrowSize/2, paint);
-                            break;
-                        case RIGHT:
-                            canvas.drawLine(centerX, centerY, centerX + arrowSize, centerY, paint);
-                            canvas.drawLine(centerX + arrowSize, centerY, centerX + arrowSize/2, centerY - arrowSize/2, paint);
-                            canvas.drawLine(centerX + arrowSize, centerY, centerX + arrowSize/2, centerY + arrowSize/2, paint);
-                            break;
-                    }
-                    paint.setStrokeWidth(1);
+                    Trace.beginSection("drawHud");
+                    try {
+                        // Theme, gravity, level and scores come from a cached bitmap, redrawn only when they change
+                        hudRenderer.draw(canvas, theme, snapshot.gravity,
+                                snapshot.levelNumber, snapshot.levelScore, snapshot.totalScore, snapshot.highScore);
+
+                        // Draw direction indicator arrow with theme color
+                        paint.setColor(theme.textColor);
+                        paint.setStrokeWidth(5);
+                        float arrowSize = 60;
+                        float centerX = (float) screenWidth / 2;
+                        float centerY = screenHeight - 100;
+
+                        // Draw arrow pointing in current gravity direction
+                        switch (snapshot.gravity) {
+                            case UP:
+                                canvas.drawLine(centerX, centerY, centerX, centerY - arrowSize, paint);
+                                canvas.drawLine(centerX, centerY - arrowSize, centerX - arrowSize/2, centerY - arrowSize/2, paint);
+                                canvas.drawLine(centerX, centerY - arrowSize, centerX + arrowSize/2, centerY - arrowSize/2, paint);
+                                break;
+                            case DOWN:
+                                canvas.drawLine(centerX, centerY, centerX, centerY + arrowSize, paint);
+                                canvas.drawLine(centerX, centerY + arrowSize, centerX - arrowSize/2, centerY + arrowSize/2, paint);
+                                canvas.drawLine(centerX, centerY + arrowSize, centerX + arrowSize/2, centerY + arrowSize/2, paint);
+                                break;
+                            case LEFT:
+                                canvas.drawLine(centerX, centerY, centerX - arrowSize, centerY, paint);
+                                canvas.drawLine(centerX - arrowSize, centerY, centerX - arrowSize/2, centerY - arrowSize/2, paint);
+                                canvas.drawLine(centerX - arrowSize, centerY, centerX - arrowSize/2, centerY + arrowSize/2, paint);
+                                break;
+                            case RIGHT:
+                                canvas.drawLine(centerX, centerY, centerX + arrowSize, centerY, paint);
+                                canvas.drawLine(centerX + arrowSize, centerY, centerX + arrowSize/2, centerY - arrowSize/2, paint);
+                                canvas.drawLine(centerX + arrowSize, centerY, centerX + arrowSize/2, centerY + arrowSize/2, paint);
+                                break;
+                        }
+                        paint.setStrokeWidth(1);
 
+                        if (timingFrame) {
+                            timingOverlay.draw(canvas, frameTimings, culler, staticLayer.getTilesDrawn(), 20, 340);
+                        }
+                    } finally {
+                        Trace.endSection();
+                    }
                 } finally {
-                    holder.unlockCanvasAndPost(canvas);
+                    long postStart = System.nanoTime();
+                    Trace.beginSection("unlockCanvasAndPost");
+                    try {
+                        holder.unlockCanvasAndPost(canvas);
+                    } finally {
+                        Trace.endSection();
+                    }
+                    if (timingFrame) {
+                        frameTimings.add(FramePhase.DRAW, postStart - drawStart);
+                        frameTimings.add(FramePhase.UNLOCK_POST, System.nanoTime() - postStart);
+                    }
                 }
             }
         }
     }
 
-    private void control() {
+    // --- Shared ---
+
+    private void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
         try {
-            Thread.sleep(17); // ~60fps
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
         } catch (InterruptedException e) {
             Log.e("GameView", "Thread interrupted during game loop", e);
             // Optionally restore the interrupt status
@@ -447,9 +948,18 @@ public class GameView extends SurfaceView implements Runnable {
     public void pause() {
         playing = false;
         musicManager.pauseMusic();
+
+        // Wake a vsync-paced render loop so the thread can exit
+        Looper looper = renderLooper;
+        if (looper != null) {
+            looper.quitSafely();
+        }
         try {
-            if (gameThread != null) {
-                gameThread.join();
+            if (renderThread != null) {
+                renderThread.join();
+            }
+            if (simulationThread != null) {
+                simulationThread.join();
             }
         } catch (InterruptedException e) {
             Log.e("GameView", "Thread interrupted during game loop", e);
@@ -459,14 +969,72 @@ public class GameView extends SurfaceView implements Runnable {
     public void resume() {
         playing = true;
         musicManager.resumeMusic();
-        gameThread = new Thread(this);
-        gameThread.start();
+        simulationThread = new Thread(this::runSimulation, "GameSimulation");
+        renderThread = new Thread(this::runRenderer, "GameRender");
+        simulationThread.start();
+        renderThread.start();
+    }
+
+    // Finish the game's input recording. Call after pause(), when the view is going away.
+    public void release() {
+        if (inputRecorder != null) {
+            InputRecordings.close(inputRecorder, simulation.getTickCount());
+            inputRecorder = null;
+        }
+    }
+
+    // Play a recorded game instead of taking touch input; call before the game starts.
+    // Touch input takes over once the recording runs out.
+    public void setReplay(InputReplay replay) {
+        this.replay = replay;
+    }
+
+    // Turn recording of new games on or off; takes effect when the next game is set up
+    public void setInputRecordingEnabled(boolean enabled) {
+        inputRecordingEnabled = enabled;
+    }
+
+    // Show or hide the frame timing overlay
+    public void setTimingOverlayEnabled(boolean enabled) {
+        timingOverlayEnabled = enabled;
+    }
+
+    public boolean isTimingOverlayEnabled() {
+        return timingOverlayEnabled;
+    }
+
+    // Show or hide the debug outlines of obstacle collision boxes
+    public void setCollisionBoxesEnabled(boolean enabled) {
+        collisionBoxesEnabled = enabled;
+    }
+
+    public boolean isCollisionBoxesEnabled() {
+        return collisionBoxesEnabled;
+    }
+
+    // Choose how frames are paced; takes effect the next time the render thread starts
+    public void setFramePacing(FramePacing pacing) {
+        framePacing = pacing;
+    }
+
+    public FramePacing getFramePacing() {
+        return framePacing;
+    }
+
+    // Choose the canvas type; takes effect the next time the surface is created
+    public void setRenderMode(RenderMode mode) {
+        requestedRenderMode = mode;
+    }
+
+    // Render mode in use for the current surface (SOFTWARE on surfaces after a hardware failure)
+    public RenderMode getRenderMode() {
+        return renderMode;
     }
 
     // Simplified direct gravity control
     public void flipGravity() {
         // Cycle through all four directions
-        switch (currentGravity) {
+        switch (pendingGravity) {
             case DOWN:
                 setGravityDirection(GravityDirection.UP);
                 break;
@@ -483,8 +1051,8 @@ public class GameView extends SurfaceView implements Runnable {
     }
 
     private void setGravityDirection(GravityDirection newDirection) {
-        if (currentGravity != newDirection) {
-            currentGravity = newDirection;
+        if (pendingGravity != newDirection) {
+            pendingGravity = newDirection;
             // Play flip sound
             SoundManager.getInstance(getContext()).playFlipSound();
         }
@@ -520,13 +1088,8 @@ public class GameView extends SurfaceView implements Runnable {
         return super.onTouchEvent(event);
     }
 
-    // Method to get current score for MainActivity
-    public int getTotalScore() {
-        return totalScore;
-    }
-
-    // Method to get high score for MainActivity
-    public int getHighScore() {
-        return highScore;
+    // Scores as of the last published tick, as one consistent pair; safe to call from any thread
+    public ScoreState getScore() {
+        return score;
     }
-}
\ No newline at end of file
+}
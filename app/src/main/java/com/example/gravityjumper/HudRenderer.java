@@ -0,0 +1,96 @@
+// HudRenderer.java
+package com.example.gravityjumper;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import com.example.gravityjumper.core.GravityDirection;
+
+// Theme, gravity, level and score text in the top-left corner, rendered into a cached bitmap.
+// The text only changes a few times per level, so it's rebuilt when one of the shown values
+// changes; every other frame is a single blit with no string building or text layout.
+public class HudRenderer {
+    private static final float TEXT_SIZE = 40;
+    private static final float LEFT = 20;
+    private static final float FIRST_BASELINE = 60;
+    private static final float LINE_SPACING = 50;
+    private static final int LINES = 6;
+    // Bitmap width is rounded up to this so a growing score doesn't reallocate on every digit
+    private static final int WIDTH_STEP = 64;
+
+    private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Canvas bitmapCanvas = new Canvas();
+    private Bitmap bitmap;
+    private int rebuildCount = 0;
+
+    // Values the bitmap currently shows
+    private LevelTheme theme;
+    private GravityDirection gravity;
+    private int levelNumber;
+    private int levelScore;
+    private int totalScore;
+    private int highScore;
+
+    public HudRenderer() {
+        textPaint.setTextSize(TEXT_SIZE);
+    }
+
+    public void draw(Canvas canvas, LevelTheme theme, GravityDirection gravity,
+                     int levelNumber, int levelScore, int totalScore, int highScore) {
+        if (bitmap == null || theme != this.theme || gravity != this.gravity
+                || levelNumber != this.levelNumber || levelScore != this.levelScore
+                || totalScore != this.totalScore || highScore != this.highScore) {
+            this.theme = theme;
+            this.gravity = gravity;
+            this.levelNumber = levelNumber;
+            this.levelScore = levelScore;
+            this.totalScore = totalScore;
+            this.highScore = highScore;
+            rebuild();
+        }
+        canvas.drawBitmap(bitmap, 0, 0, null);
+    }
+
+    private void rebuild() {
+        String[] lines = {
+                "Theme: " + theme.themeName,
+                "Gravity: " + gravity.toString(),
+                "Level: " + levelNumber,
+                "Level Score: " + levelScore,
+                "Total Score: " + totalScore,
+                "High Score: " + highScore
+        };
+
+        float widest = 0;
+        for (String line : lines) {
+            widest = Math.max(widest, textPaint.measureText(line));
+        }
+        int width = ((int) Math.ceil(LEFT + widest) / WIDTH_STEP + 1) * WIDTH_STEP;
+        // Room below the last baseline for descenders
+        int height = (int) Math.ceil(FIRST_BASELINE + (LINES - 1) * LINE_SPACING + TEXT_SIZE / 2);
+
+        if (bitmap == null || bitmap.getWidth() < width) {
+            if (bitmap != null) {
+                bitmap.recycle();
+            }
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        } else {
+            bitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        textPaint.setColor(theme.textColor);
+        bitmapCanvas.setBitmap(bitmap);
+        for (int i = 0; i < lines.length; i++) {
+            bitmapCanvas.drawText(lines[i], LEFT, FIRST_BASELINE + i * LINE_SPACING, textPaint);
+        }
+        bitmapCanvas.setBitmap(null);
+        rebuildCount++;
+    }
+
+    // Number of times the HUD bitmap has been redrawn
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+}
@@ -0,0 +1,66 @@
+// InputRecordings.java
+package com.example.gravityjumper;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.example.gravityjumper.core.GravityDirection;
+import com.example.gravityjumper.core.InputRecorder;
+import com.example.gravityjumper.core.InputReplay;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// Per-game input recordings in filesDir/replays, one file per game played.
+// Pull them with `adb shell run-as com.example.gravityjumper cat files/replays/<file>` and replay
+// them headless with InputReplay's main(), or on device by starting MainActivity with the file
+// name in the "replay" extra.
+public class InputRecordings {
+    private static final String DIRECTORY = "replays";
+    private static final String EXTENSION = ".gjir";
+    // Oldest recordings are deleted beyond this many files
+    private static final int MAX_FILES = 10;
+
+    private InputRecordings() {
+    }
+
+    // Start recording a new game, or null if the file can't be created
+    public static InputRecorder open(Context context, int startLevel, int levelWidth, int levelHeight,
+                                     GravityDirection initialGravity) {
+        long now = System.currentTimeMillis();
+        OutputStream out = SessionFiles.open(context, DIRECTORY, EXTENSION, MAX_FILES, now);
+        if (out == null) {
+            return null;
+        }
+        return new InputRecorder(out, now, startLevel, levelWidth, levelHeight, initialGravity);
+    }
+
+    public static void close(InputRecorder recorder, long tickCount) {
+        try {
+            recorder.close(tickCount);
+        } catch (IOException e) {
+            Log.e("InputRecordings", "Error writing input recording: " + e.getMessage());
+        }
+    }
+
+    // Load a recording by file name from the replays directory, or null if it can't be read.
+    // The name comes from an intent extra, so only a plain name in that directory is accepted:
+    // nothing with a separator or a ".." that could reach another file.
+    public static InputReplay load(Context context, String name) {
+        if (name.isEmpty() || !name.equals(new File(name).getName()) || name.equals(".") || name.equals("..")) {
+            Log.e("InputRecordings", "Not a recording name: " + name);
+            return null;
+        }
+        File file = new File(new File(context.getFilesDir(), DIRECTORY), name);
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return new InputReplay(in);
+        } catch (IOException e) {
+            Log.e("InputRecordings", "Could not read " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -12,24 +12,52 @@ public class LevelTheme {
     public final int collectibleColor;
     public final int textColor;
 
+    // Theme asset manifest: drawable resources used to render this theme
+    public final int backgroundRes;
+    public final int collectibleRes;
+    public final int obstacleRes;
+    public final int playerRes;
+
+    // Goal area color, derived from the player color
+    public final int goalColor;
+
 
     // Predefined themes
     // Define available themes
     public static final LevelTheme[] THEMES = {
-            new LevelTheme("Classic", Color.BLACK, Color.WHITE, Color.GRAY, Color.YELLOW, Color.WHITE),
-            new LevelTheme("Space", Color.rgb(0, 0, 50), Color.CYAN, Color.rgb(100, 100, 150), Color.YELLOW, Color.CYAN),
-            new LevelTheme("Underwater", Color.rgb(0, 50, 100), Color.rgb(0, 255, 200), Color.rgb(0, 100, 150), Color.rgb(255, 215, 0), Color.WHITE),
-            new LevelTheme("Lava", Color.rgb(50, 0, 0), Color.rgb(255, 100, 0), Color.rgb(100, 50, 0), Color.rgb(255, 255, 0), Color.rgb(255, 200, 0)),
-            new LevelTheme("Forest", Color.rgb(0, 50, 0), Color.rgb(0, 200, 0), Color.rgb(100, 50, 0), Color.rgb(255, 0, 100), Color.rgb(200, 255, 200))
+            new LevelTheme("Classic", Color.BLACK, Color.WHITE, Color.GRAY, Color.YELLOW, Color.WHITE,
+                    R.drawable.bg_classic, R.drawable.collectible_classic, R.drawable.obstacle_classic, R.drawable.player_classic),
+            new LevelTheme("Space", Color.rgb(0, 0, 50), Color.CYAN, Color.rgb(100, 100, 150), Color.YELLOW, Color.CYAN,
+                    R.drawable.bg_space, R.drawable.collectible_space, R.drawable.obstacle_space, R.drawable.player_space),
+            new LevelTheme("Underwater", Color.rgb(0, 50, 100), Color.rgb(0, 255, 200), Color.rgb(0, 100, 150), Color.rgb(255, 215, 0), Color.WHITE,
+                    R.drawable.bg_underwater, R.drawable.collectible_underwater, R.drawable.obstacle_underwater, R.drawable.player_underwater),
+            new LevelTheme("Lava", Color.rgb(50, 0, 0), Color.rgb(255, 100, 0), Color.rgb(100, 50, 0), Color.rgb(255, 255, 0), Color.rgb(255, 200, 0),
+                    R.drawable.bg_lava, R.drawable.collectible_lava, R.drawable.obstacle_lava, R.drawable.player_lava),
+            new LevelTheme("Forest", Color.rgb(0, 50, 0), Color.rgb(0, 200, 0), Color.rgb(100, 50, 0), Color.rgb(255, 0, 100), Color.rgb(200, 255, 200),
+                    R.drawable.bg_forest, R.drawable.collectible_forest, R.drawable.obstacle_forest, R.drawable.player_forest)
     };
 
-    public LevelTheme(String themeName, int backgroundColor, int playerColor, int platformColor, int collectibleColor, int textColor) {
+    public LevelTheme(String themeName, int backgroundColor, int playerColor, int platformColor, int collectibleColor, int textColor,
+                      int backgroundRes, int collectibleRes, int obstacleRes, int playerRes) {
         this.themeName = themeName;
         this.backgroundColor = backgroundColor;
         this.playerColor = playerColor;
         this.platformColor = platformColor;
         this.collectibleColor = collectibleColor;
         this.textColor = textColor;
+        this.backgroundRes = backgroundRes;
+        this.collectibleRes = collectibleRes;
+        this.obstacleRes = obstacleRes;
+        this.playerRes = playerRes;
+        this.goalColor = blendWithGreen(playerColor);
+    }
+
+    // Green tint of a color: an even mix of it and pure green
+    private static int blendWithGreen(int color) {
+        int r = (Color.red(color) + Color.red(Color.GREEN)) / 2;
+        int g = (Color.green(color) + Color.green(Color.GREEN)) / 2;
+        int b = (Color.blue(color) + Color.blue(Color.GREEN)) / 2;
+        return Color.rgb(r, g, b);
     }
     // Get a theme based on level number (cycles through available themes)
     public static LevelTheme getThemeForLevel(int levelNumber) {
@@ -13,11 +13,15 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.app.AlertDialog;
 import androidx.core.view.WindowCompat;
 
+import com.example.gravityjumper.core.InputReplay;
+
 public class MainActivity extends AppCompatActivity {
 
     private GameView gameView;
     private static final String PREFS_NAME = "ThemePrefs";
     private static final String CURRENT_THEME_KEY = "CurrentTheme";
+    // Name of a recording in InputRecordings' directory to replay instead of playing
+    public static final String REPLAY_EXTRA = "replay";
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -40,6 +44,16 @@ public class MainActivity extends AppCompatActivity {
         // Pass the saved theme to GameView
         gameView.setInitialTheme(savedTheme);
 
+        // Play back a recorded game if one was asked for, e.g.
+        // adb shell am start -n com.example.gravityjumper/.MainActivity --es replay session-<millis>.gjir
+        String replayName = getIntent().getStringExtra(REPLAY_EXTRA);
+        if (replayName != null) {
+            InputReplay replay = InputRecordings.load(this, replayName);
+            if (replay != null) {
+                gameView.setReplay(replay);
+            }
+        }
+
         Button flipGravityButton = findViewById(R.id.flipGravityButton);
 
         flipGravityButton.setOnClickListener(new View.OnClickListener() {
@@ -54,7 +68,8 @@ public class MainActivity extends AppCompatActivity {
             @Override
             public void handleOnBackPressed() {
                 // Show score before exiting
-                showScoreDialog(gameView.getTotalScore(), gameView.getHighScore());
+                ScoreState score = gameView.getScore();
+                showScoreDialog(score.totalScore, score.highScore);
                 // Call this to continue with the back action
                 this.setEnabled(false);
                 getOnBackPressedDispatcher().onBackPressed();
@@ -107,6 +122,12 @@ public class MainActivity extends AppCompatActivity {
         gameView.pause();
     }
 
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        gameView.release();
+    }
+
     @Override
     protected void onResume() {
         super.onResume();
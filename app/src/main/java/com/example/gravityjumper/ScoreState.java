@@ -0,0 +1,16 @@
+// ScoreState.java
+package com.example.gravityjumper;
+
+// Scores as of one simulation tick, for readers off the game threads (the score dialog).
+// Immutable and replaced whole, so a reader always gets a matching pair without locking.
+public final class ScoreState {
+    public static final ScoreState ZERO = new ScoreState(0, 0);
+
+    public final int totalScore;
+    public final int highScore;
+
+    public ScoreState(int totalScore, int highScore) {
+        this.totalScore = totalScore;
+        this.highScore = highScore;
+    }
+}
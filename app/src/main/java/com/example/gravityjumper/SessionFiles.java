@@ -0,0 +1,54 @@
+// SessionFiles.java
+package com.example.gravityjumper;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+// One file per session in a directory under filesDir, named session-<start millis><extension>, with
+// only the newest few kept. Shared by the frame-stats logs and the input recordings.
+public class SessionFiles {
+    private SessionFiles() {
+    }
+
+    // Create the file for a session started at startMillis, deleting the oldest ones so at most
+    // maxFiles remain with it. Returns a buffered stream to it, or null if it can't be created.
+    public static OutputStream open(Context context, String directoryName, String extension, int maxFiles,
+                                    long startMillis) {
+        File directory = new File(context.getFilesDir(), directoryName);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.e("SessionFiles", "Could not create " + directory);
+            return null;
+        }
+        prune(directory, extension, maxFiles - 1);
+
+        File file = new File(directory, "session-" + startMillis + extension);
+        try {
+            return new BufferedOutputStream(new FileOutputStream(file));
+        } catch (IOException e) {
+            Log.e("SessionFiles", "Could not open " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Delete the oldest session files so at most keep remain
+    private static void prune(File directory, String extension, int keep) {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(extension));
+        if (files == null || files.length <= keep) {
+            return;
+        }
+        // Names embed the start time, so name order is age order
+        Arrays.sort(files);
+        for (int i = 0; i < files.length - keep; i++) {
+            if (!files[i].delete()) {
+                Log.w("SessionFiles", "Could not delete " + files[i]);
+            }
+        }
+    }
+}
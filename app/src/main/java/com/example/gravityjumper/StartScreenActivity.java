@@ -28,9 +28,8 @@ public class StartScreenActivity extends AppCompatActivity {
         // Set the player image based on the theme
         ImageView logoImage = findViewById(R.id.logoImage);
 
-        // Set the appropriate player image based on theme
-        int playerResourceId = getPlayerResourceForTheme(defaultTheme.themeName);
-        logoImage.setImageResource(playerResourceId);
+        // Set the appropriate player image from the theme's asset manifest
+        logoImage.setImageResource(defaultTheme.playerRes);
 
         // Set background color based on theme
         View rootView = findViewById(android.R.id.content);
@@ -64,25 +63,6 @@ public class StartScreenActivity extends AppCompatActivity {
         });
     }
 
-    // Helper method to get the correct player resource based on theme name
-    private int getPlayerResourceForTheme(String themeName) {
-        switch(themeName) {
-            case "Classic":
-                return R.drawable.player_classic;
-            case "Space":
-                return R.drawable.player_space;
-            case "Underwater":
-                return R.drawable.player_underwater;
-            case "Lava":
-                return R.drawable.player_lava;
-            case "Forest":
-                return R.drawable.player_forest;
-            default:
-                // Fallback to app icon if theme doesn't match
-                return R.mipmap.ic_launcher;
-        }
-    }
-
     private void hideSystemUI() {
         // Use WindowCompat instead of the deprecated setDecorFitsSystemWindows
         WindowCompat.setDecorFitsSystemWindows(getWindow(), false);
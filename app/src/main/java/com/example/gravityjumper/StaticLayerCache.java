@@ -0,0 +1,255 @@
+// StaticLayerCache.java
+package com.example.gravityjumper;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.util.Log;
+
+import com.example.gravityjumper.core.Level;
+import com.example.gravityjumper.core.ObstacleGrid;
+import com.example.gravityjumper.core.ObstacleStore;
+
+// The level's static geometry (walls, platforms and goal) rendered once into TILE_SIZE bitmap tiles.
+// A frame blits only the tiles under the camera, so its cost no longer grows with obstacle count.
+// Tiles are rendered lazily the first time they come into view and evicted least-recently-used
+// beyond maxTiles; the tile bitmaps themselves are reused across levels and themes.
+// Obstacles with a speed are not static and are left for the caller to draw every frame, as are
+// debug overlays: tiles hold only the static art.
+// Tile rendering is the only part that queries the level; the caller culls what it draws itself.
+public class StaticLayerCache {
+    public static final int TILE_SIZE = 512;
+    // Memory for one ARGB_8888 tile
+    public static final int TILE_BYTES = TILE_SIZE * TILE_SIZE * 4;
+
+    private final int maxTiles;
+    private final Paint paint = new Paint();
+    private final Canvas tileCanvas = new Canvas();
+    // Grid query scratch of our own; the simulation thread queries the same grid
+    private final ObstacleGrid.Query query = new ObstacleGrid.Query();
+
+    // What the tiles currently show; any change invalidates them
+    private Level level;
+    private int levelGeneration;
+    private Bitmap obstacleBitmap;
+    private int goalColor;
+
+    private int columns;
+    private int rows;
+    // Rendered tile per grid index (null if not rendered) and the frame it was last drawn in
+    private Bitmap[] tiles = new Bitmap[0];
+    private long[] lastUsedFrame = new long[0];
+    private int tileCount = 0;
+    private long frame = 0;
+    private int tilesDrawn = 0;
+
+    // Tile bitmaps released by invalidate(), reused before allocating new ones
+    private final Bitmap[] freeTiles;
+    private int freeCount = 0;
+
+    // Set after a tile allocation fails; the caller draws the geometry directly from then on
+    private boolean disabled = false;
+
+    // Tiles are never allocated beyond maxTiles; if a view needs more, draw() leaves it to the caller
+    public StaticLayerCache(int maxTiles) {
+        this.maxTiles = maxTiles;
+        this.freeTiles = new Bitmap[maxTiles];
+    }
+
+    // Point the cache at a level and theme. Cheap when nothing changed, so call it every frame.
+    public void setContent(Level level, Bitmap obstacleBitmap, int goalColor) {
+        // Pooled levels are regenerated in place, so the same Level can come back with a new layout
+        if (level == this.level && level.getGeneration() == levelGeneration
+                && obstacleBitmap == this.obstacleBitmap && goalColor == this.goalColor) {
+            return;
+        }
+        this.level = level;
+        this.levelGeneration = level.getGeneration();
+        this.obstacleBitmap = obstacleBitmap;
+        this.goalColor = goalColor;
+        invalidate();
+
+        // Obstacle sprites are drawn at their bitmap size from the obstacle's corner, which can
+        // reach past the level edge, so the tile grid covers that overhang too
+        int overhangX = obstacleBitmap != null ? obstacleBitmap.getWidth() : 0;
+        int overhangY = obstacleBitmap != null ? obstacleBitmap.getHeight() : 0;
+        columns = (level.getLevelWidth() + overhangX + TILE_SIZE - 1) / TILE_SIZE;
+        rows = (level.getLevelHeight() + overhangY + TILE_SIZE - 1) / TILE_SIZE;
+        if (tiles.length < columns * rows) {
+            tiles = new Bitmap[columns * rows];
+            lastUsedFrame = new long[columns * rows];
+        }
+    }
+
+    // Drop all rendered tiles, keeping their bitmaps for reuse
+    public void invalidate() {
+        for (int i = 0; i < tiles.length; i++) {
+            if (tiles[i] != null) {
+                release(tiles[i]);
+                tiles[i] = null;
+            }
+        }
+        tileCount = 0;
+    }
+
+    // Draw the part of the layer inside the view rect (level coordinates; canvas already translated
+    // by the camera). Returns false if the cache is unavailable and the caller must draw directly.
+    public boolean draw(Canvas canvas, float viewLeft, float viewTop, float viewRight, float viewBottom) {
+        tilesDrawn = 0;
+        if (disabled || level == null) {
+            return false;
+        }
+        frame++;
+
+        int col0 = Math.max(0, (int) Math.floor(viewLeft / TILE_SIZE));
+        int col1 = Math.min(columns - 1, (int) Math.floor(viewRight / TILE_SIZE));
+        int row0 = Math.max(0, (int) Math.floor(viewTop / TILE_SIZE));
+        int row1 = Math.min(rows - 1, (int) Math.floor(viewBottom / TILE_SIZE));
+        if ((col1 - col0 + 1) * (row1 - row0 + 1) > maxTiles) {
+            // The budget can't hold one view's tiles; evicting tiles it still needs would re-render every frame
+            return false;
+        }
+
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int index = row * columns + col;
+                Bitmap tile = tiles[index];
+                if (tile == null) {
+                    tile = renderTile(col, row);
+                    if (tile == null) {
+                        return false;
+                    }
+                    tiles[index] = tile;
+                    tileCount++;
+                }
+                lastUsedFrame[index] = frame;
+                canvas.drawBitmap(tile, col * TILE_SIZE, row * TILE_SIZE, null);
+                tilesDrawn++;
+            }
+        }
+        return true;
+    }
+
+    private Bitmap renderTile(int col, int row) {
+        Bitmap tile = obtainTile();
+        if (tile == null) {
+            return null;
+        }
+
+        float left = col * TILE_SIZE;
+        float top = row * TILE_SIZE;
+        tileCanvas.setBitmap(tile);
+        tileCanvas.save();
+        tileCanvas.translate(-left, -top);
+        drawStaticGeometry(tileCanvas, level, obstacleBitmap, goalColor, paint, query,
+                left, top, left + TILE_SIZE, top + TILE_SIZE);
+        tileCanvas.restore();
+        tileCanvas.setBitmap(null);
+        return tile;
+    }
+
+    // A cleared bitmap for a new tile: a free one, a newly allocated one, or the least recently used
+    private Bitmap obtainTile() {
+        Bitmap tile = null;
+        if (freeCount > 0) {
+            tile = freeTiles[--freeCount];
+        } else if (tileCount < maxTiles) {
+            try {
+                tile = Bitmap.createBitmap(TILE_SIZE, TILE_SIZE, Bitmap.Config.ARGB_8888);
+            } catch (OutOfMemoryError e) {
+                Log.e("StaticLayerCache", "Out of memory for layer tiles, drawing level directly");
+                disabled = true;
+                invalidate();
+                freeCount = 0;
+                return null;
+            }
+        } else {
+            tile = evictLeastRecentlyUsed();
+        }
+        tile.eraseColor(Color.TRANSPARENT);
+        return tile;
+    }
+
+    private Bitmap evictLeastRecentlyUsed() {
+        int oldest = -1;
+        for (int i = 0; i < columns * rows; i++) {
+            if (tiles[i] != null && (oldest < 0 || lastUsedFrame[i] < lastUsedFrame[oldest])) {
+                oldest = i;
+            }
+        }
+        Bitmap tile = tiles[oldest];
+        tiles[oldest] = null;
+        tileCount--;
+        return tile;
+    }
+
+    private void release(Bitmap tile) {
+        if (freeCount < freeTiles.length) {
+            freeTiles[freeCount++] = tile;
+        }
+    }
+
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    // Tiles blitted by the last draw()
+    public int getTilesDrawn() {
+        return tilesDrawn;
+    }
+
+    // Draw the static obstacles and goal that touch the given rect (level coordinates) into a tile
+    private static void drawStaticGeometry(Canvas canvas, Level level, Bitmap obstacleBitmap, int goalColor,
+                                           Paint paint, ObstacleGrid.Query query,
+                                           float left, float top, float right, float bottom) {
+        // Sprites extend from the obstacle's corner, so widen the query by a sprite's size
+        int spriteWidth = obstacleBitmap != null ? obstacleBitmap.getWidth() : 0;
+        int spriteHeight = obstacleBitmap != null ? obstacleBitmap.getHeight() : 0;
+        ObstacleStore obstacles = level.getObstacleStore();
+        ObstacleGrid grid = level.getObstacleGrid();
+        int found = grid.query(left - spriteWidth, top - spriteHeight, right, bottom, query);
+        for (int i = 0; i < found; i++) {
+            int index = query.getResultIndex(i);
+            if (obstacles.getSpeed(index) == 0) {
+                drawObstacle(canvas, obstacles, index, obstacleBitmap, paint);
+            }
+        }
+
+        drawGoal(canvas, level, goalColor, paint);
+    }
+
+    // Goal area, tinted from the theme
+    public static void drawGoal(Canvas canvas, Level level, int goalColor, Paint paint) {
+        paint.setColor(goalColor);
+        canvas.drawRect(level.getGoalLeft(), level.getGoalTop(), level.getGoalRight(), level.getGoalBottom(), paint);
+    }
+
+    // Draw obstacle index of the store
+    public static void drawObstacle(Canvas canvas, ObstacleStore obstacles, int index, Bitmap obstacleBitmap,
+                                    Paint paint) {
+        float x = obstacles.getX(index);
+        float y = obstacles.getY(index);
+        if (obstacleBitmap != null) {
+            canvas.drawBitmap(obstacleBitmap, x, y, null);
+        } else {
+            // Draw a rectangle if bitmap is null
+            paint.setARGB(255, 100, 100, 100);
+            canvas.drawRect(x, y, x + obstacles.getWidth(index), y + obstacles.getHeight(index), paint);
+        }
+    }
+
+    // Debug: outline obstacle index's collision box. Drawn per frame over the layer, never into tiles.
+    public static void drawCollisionBox(Canvas canvas, ObstacleStore obstacles, int index, Paint paint) {
+        paint.setColor(Color.RED);
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(2);
+
+        canvas.drawRect(obstacles.getCollisionLeft(index), obstacles.getCollisionTop(index),
+                obstacles.getCollisionRight(index), obstacles.getCollisionBottom(index),
+                paint);
+
+        paint.setStyle(Paint.Style.FILL);
+        paint.setStrokeWidth(1);
+    }
+}
@@ -0,0 +1,204 @@
+// ThemeAssetCache.java
+package com.example.gravityjumper;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Process;
+import android.os.Trace;
+import android.util.Log;
+import android.util.LruCache;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Decoded theme bitmaps shared by GameView and Player, keyed by LevelTheme.
+// Each theme is decoded once, pre-scaled to the size it's drawn at, and kept until the
+// LRU budget forces it out, so replaying or cycling through themes doesn't decode again.
+// Backgrounds are scaled to the surface size, so a size change drops every cached theme.
+// prefetch() decodes on a background thread so level transitions never wait on a decode.
+public class ThemeAssetCache {
+    private static ThemeAssetCache instance;
+
+    // Sizes the sprites are drawn at
+    public static final int PLAYER_SIZE = 150;
+    public static final int COLLECTIBLE_SIZE = 40;
+
+    private final Resources resources;
+    private final LruCache<LevelTheme, ThemeAssets> cache;
+    private int surfaceWidth;
+    private int surfaceHeight;
+    // Themes being decoded right now; a miss on one waits for that decode instead of repeating it
+    private final Set<LevelTheme> loading = new HashSet<>();
+
+    // Single low-priority worker, so prefetches complete in the order they were requested
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, "ThemeAssetLoader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Receives prefetched assets on the loader thread
+    public interface Callback {
+        void onThemeAssetsLoaded(ThemeAssets assets);
+    }
+
+    private ThemeAssetCache(Context context) {
+        resources = context.getApplicationContext().getResources();
+
+        // Budget an eighth of the heap, counted in kilobytes
+        int maxKb = (int) (Runtime.getRuntime().maxMemory() / 1024 / 8);
+        cache = new LruCache<LevelTheme, ThemeAssets>(maxKb) {
+            @Override
+            protected int sizeOf(LevelTheme theme, ThemeAssets assets) {
+                return Math.max(1, assets.getByteCount() / 1024);
+            }
+        };
+    }
+
+    public static synchronized ThemeAssetCache getInstance(Context context) {
+        if (instance == null) {
+            instance = new ThemeAssetCache(context);
+        }
+        return instance;
+    }
+
+    // Size backgrounds are decoded to; cached themes scaled for another size are dropped
+    public synchronized void setSurfaceSize(int width, int height) {
+        if (width != surfaceWidth || height != surfaceHeight) {
+            surfaceWidth = width;
+            surfaceHeight = height;
+            cache.evictAll();
+        }
+    }
+
+    // Assets for the theme, decoding them on the calling thread on a miss. If another thread is
+    // already decoding the theme, wait for its result rather than decoding it twice.
+    public ThemeAssets get(LevelTheme theme) {
+        int width;
+        int height;
+        boolean interrupted = false;
+        synchronized (this) {
+            try {
+                while (true) {
+                    ThemeAssets assets = cache.get(theme);
+                    if (assets != null) {
+                        return assets;
+                    }
+                    if (!loading.contains(theme)) {
+                        break;
+                    }
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            loading.add(theme);
+            width = surfaceWidth;
+            height = surfaceHeight;
+        }
+
+        // Decode outside the lock so a prefetch in progress doesn't block the game thread's cache hits
+        ThemeAssets assets = null;
+        try {
+            assets = load(theme, width, height);
+            return assets;
+        } finally {
+            synchronized (this) {
+                loading.remove(theme);
+                // Don't cache a background scaled for a surface size that has since changed
+                if (assets != null && width == surfaceWidth && height == surfaceHeight) {
+                    cache.put(theme, assets);
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    // Decode the theme on the loader thread and hand the result to callback there
+    public void prefetch(LevelTheme theme, Callback callback) {
+        loader.execute(() -> callback.onThemeAssetsLoaded(get(theme)));
+    }
+
+    private ThemeAssets load(LevelTheme theme, int width, int height) {
+        Trace.beginSection("decodeThemeAssets");
+        try {
+            long start = System.nanoTime();
+            ThemeAssets assets = new ThemeAssets(theme, width, height,
+                    decodeBackground(theme.backgroundRes, width, height),
+                    decodeScaled(theme.collectibleRes, COLLECTIBLE_SIZE, COLLECTIBLE_SIZE),
+                    decode(theme.obstacleRes),
+                    decodeScaled(theme.playerRes, PLAYER_SIZE, PLAYER_SIZE));
+            Log.d("ThemeAssetCache", "Decoded " + theme.themeName + " assets in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms, " + assets.getByteCount() / 1024 + " KB");
+            return assets;
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    // Backgrounds are drawn 1:1, so decode them straight to the surface size.
+    // Until the surface is measured there is nothing to scale to; GameView falls back to the theme color.
+    private Bitmap decodeBackground(int resId, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        return decodeScaled(resId, width, height);
+    }
+
+    private Bitmap decode(int resId) {
+        try {
+            return BitmapFactory.decodeResource(resources, resId);
+        } catch (Exception e) {
+            Log.e("ThemeAssetCache", "Error decoding resource: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Decode at the smallest power-of-two subsample that still covers the target size,
+    // then scale to exactly width x height
+    private Bitmap decodeScaled(int resId, int width, int height) {
+        try {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            // Work in source pixels; density scaling would only be undone by the final scale
+            options.inScaled = false;
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeResource(resources, resId, options);
+            options.inSampleSize = sampleSizeFor(options.outWidth, options.outHeight, width, height);
+            options.inJustDecodeBounds = false;
+
+            Bitmap decoded = BitmapFactory.decodeResource(resources, resId, options);
+            if (decoded == null) {
+                return null;
+            }
+            Bitmap scaled = Bitmap.createScaledBitmap(decoded, width, height, true);
+            if (scaled != decoded) {
+                decoded.recycle();
+            }
+            return scaled;
+        } catch (Exception e) {
+            Log.e("ThemeAssetCache", "Error decoding resource: " + e.getMessage());
+            return null;
+        }
+    }
+
+    static int sampleSizeFor(int sourceWidth, int sourceHeight, int targetWidth, int targetHeight) {
+        int sampleSize = 1;
+        while (sourceWidth / (sampleSize * 2) >= targetWidth && sourceHeight / (sampleSize * 2) >= targetHeight) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+}
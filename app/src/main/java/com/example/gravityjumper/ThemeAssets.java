@@ -0,0 +1,37 @@
+// ThemeAssets.java
+package com.example.gravityjumper;
+
+import android.graphics.Bitmap;
+
+// Decoded, pre-scaled bitmaps for one LevelTheme. Any of them may be null if decoding failed,
+// in which case the game falls back to drawing with the theme colors.
+public class ThemeAssets {
+    public final LevelTheme theme;
+    // Surface size the background was scaled to (0 if it was decoded before the surface was measured)
+    public final int surfaceWidth;
+    public final int surfaceHeight;
+    public final Bitmap background;
+    public final Bitmap collectible;
+    public final Bitmap obstacle;
+    public final Bitmap player;
+
+    public ThemeAssets(LevelTheme theme, int surfaceWidth, int surfaceHeight,
+                       Bitmap background, Bitmap collectible, Bitmap obstacle, Bitmap player) {
+        this.theme = theme;
+        this.surfaceWidth = surfaceWidth;
+        this.surfaceHeight = surfaceHeight;
+        this.background = background;
+        this.collectible = collectible;
+        this.obstacle = obstacle;
+        this.player = player;
+    }
+
+    // Approximate memory held by the bitmaps, in bytes
+    public int getByteCount() {
+        return byteCount(background) + byteCount(collectible) + byteCount(obstacle) + byteCount(player);
+    }
+
+    private static int byteCount(Bitmap bitmap) {
+        return bitmap != null ? bitmap.getAllocationByteCount() : 0;
+    }
+}
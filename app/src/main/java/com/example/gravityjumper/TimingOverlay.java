@@ -0,0 +1,138 @@
+// TimingOverlay.java
+package com.example.gravityjumper;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import com.example.gravityjumper.core.FramePhase;
+import com.example.gravityjumper.core.FrameTimings;
+import com.example.gravityjumper.core.TimingHistogram;
+import com.example.gravityjumper.core.ViewportCuller;
+
+// Debug overlay listing FrameTimings: FPS with 1% / 0.1% lows, jank count, and mean / p99 per phase,
+// followed by the frame's culling counts (visible / culled) and static layer tiles blitted.
+// Text is built into a reused char[] and drawn with drawText(char[], ...) so the overlay itself
+// doesn't add garbage to the frames it's measuring.
+public class TimingOverlay {
+    private static final FramePhase[] PHASES = FramePhase.values();
+    private static final float TEXT_SIZE = 32;
+    private static final float PADDING = 12;
+    private static final float WIDTH = 520;
+
+    private final char[] line = new char[64];
+    private int length;
+
+    private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint backgroundPaint = new Paint();
+
+    public TimingOverlay() {
+        textPaint.setColor(Color.WHITE);
+        textPaint.setTextSize(TEXT_SIZE);
+        textPaint.setTypeface(Typeface.MONOSPACE);
+        backgroundPaint.setColor(Color.argb(160, 0, 0, 0));
+    }
+
+    // Draw with the top-left corner at (x, y), in screen coordinates
+    public void draw(Canvas canvas, FrameTimings timings, ViewportCuller culler, int tilesDrawn, float x, float y) {
+        float lineHeight = TEXT_SIZE * 1.25f;
+        int lines = 3 + PHASES.length;
+        canvas.drawRect(x, y, x + WIDTH, y + lines * lineHeight + PADDING * 2, backgroundPaint);
+
+        float textX = x + PADDING;
+        float textY = y + PADDING + TEXT_SIZE;
+
+        length = 0;
+        append("fps ");
+        appendFixed(timings.getFps(), 1);
+        append("  1% ");
+        appendFixed(timings.getLowFps(0.01), 1);
+        append("  .1% ");
+        appendFixed(timings.getLowFps(0.001), 1);
+        drawLine(canvas, textX, textY);
+        textY += lineHeight;
+
+        length = 0;
+        append("jank ");
+        appendInt(timings.getJankCount());
+        append("   ms avg / p99");
+        drawLine(canvas, textX, textY);
+        textY += lineHeight;
+
+        for (FramePhase phase : PHASES) {
+            TimingHistogram histogram = timings.getPhase(phase);
+            length = 0;
+            append(phase.label);
+            padTo(9);
+            appendFixed(histogram.getMean() / 1e6f, 2);
+            append(" / ");
+            appendFixed(histogram.getPercentile(0.99) / 1e6f, 2);
+            drawLine(canvas, textX, textY);
+            textY += lineHeight;
+        }
+
+        length = 0;
+        append("obst ");
+        appendInt(culler.getVisibleObstacleCount());
+        append("/");
+        appendInt(culler.getCulledObstacleCount());
+        append(" coll ");
+        appendInt(culler.getVisibleCollectibleCount());
+        append("/");
+        appendInt(culler.getCulledCollectibleCount());
+        append(" tiles ");
+        appendInt(tilesDrawn);
+        drawLine(canvas, textX, textY);
+    }
+
+    private void drawLine(Canvas canvas, float x, float y) {
+        canvas.drawText(line, 0, length, x, y, textPaint);
+    }
+
+    private void append(String text) {
+        for (int i = 0; i < text.length() && length < line.length; i++) {
+            line[length++] = text.charAt(i);
+        }
+    }
+
+    private void padTo(int column) {
+        while (length < column && length < line.length) {
+            line[length++] = ' ';
+        }
+    }
+
+    private void appendInt(int value) {
+        if (value < 0) {
+            append("-");
+            value = -value;
+        }
+        int start = length;
+        do {
+            if (length == line.length) {
+                return;
+            }
+            line[length++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+
+        // Digits were written least significant first
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            char c = line[i];
+            line[i] = line[j];
+            line[j] = c;
+        }
+    }
+
+    private void appendFixed(float value, int decimals) {
+        int scale = decimals == 1 ? 10 : 100;
+        int scaled = Math.round(value * scale);
+        appendInt(scaled / scale);
+        append(".");
+        int fraction = scaled % scale;
+        if (decimals == 2 && fraction < 10) {
+            append("0");
+        }
+        appendInt(fraction);
+    }
+}
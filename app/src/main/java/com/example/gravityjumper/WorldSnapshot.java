@@ -0,0 +1,109 @@
+// WorldSnapshot.java
+package com.example.gravityjumper;
+
+import com.example.gravityjumper.core.GravityDirection;
+import com.example.gravityjumper.core.Level;
+import com.example.gravityjumper.core.PlayerBody;
+import com.example.gravityjumper.core.Simulation;
+
+import java.util.BitSet;
+
+// Everything the render thread needs to draw one frame, copied from the simulation after a tick.
+// Snapshots are pooled in a TripleBuffer: the simulation thread fills one with capture() and
+// publishes it, after which it is read-only until the renderer lets go of it.
+// The Level is shared rather than copied: its geometry doesn't change after generation, and the
+// one thing that does (collected flags) is copied here. Obstacles with a speed would move under
+// the renderer's feet; generated levels have none, and they would need copying here if that changes.
+public class WorldSnapshot {
+    // Simulation tick this was captured after, and when (System.nanoTime()) it was published
+    public long tick;
+    public long publishNanos;
+
+    public Level level;
+    public LevelTheme theme;
+    public GravityDirection gravity;
+    public int levelNumber;
+    public int levelScore;
+    public int totalScore;
+    public int highScore;
+
+    // Player at the start and end of the tick, for interpolation, plus its squash/jiggle pose
+    public float playerPrevX;
+    public float playerPrevY;
+    public float playerX;
+    public float playerY;
+    public int playerWidth;
+    public int playerHeight;
+    public float playerScaleX;
+    public float playerScaleY;
+    public float playerRotation;
+    public boolean playerJiggling;
+
+    // Camera at the start and end of the tick
+    public float prevCameraX;
+    public float prevCameraY;
+    public float cameraX;
+    public float cameraY;
+
+    // Collected flag per index of level.getCollectibleStore()
+    private final BitSet collected = new BitSet();
+
+    // Simulation phase times summed over all ticks so far, so the renderer can take the difference
+    // between the snapshots it draws without losing the ticks of snapshots it skipped
+    public long inputNanos;
+    public long updateNanos;
+    public long collisionNanos;
+
+    // Copy the simulation's state. The collected bits grow to the largest level seen, then are reused.
+    public void capture(Simulation simulation, LevelTheme theme, int highScore) {
+        Level current = simulation.getLevel();
+        tick = simulation.getTickCount();
+        level = current;
+        this.theme = theme;
+        gravity = simulation.getGravity();
+        levelNumber = current.getLevelNumber();
+        levelScore = current.getScore();
+        totalScore = simulation.getTotalScore();
+        this.highScore = highScore;
+
+        PlayerBody body = simulation.getPlayer();
+        playerPrevX = body.getPrevX();
+        playerPrevY = body.getPrevY();
+        playerX = body.getX();
+        playerY = body.getY();
+        playerWidth = body.getWidth();
+        playerHeight = body.getHeight();
+        playerScaleX = body.getScaleX();
+        playerScaleY = body.getScaleY();
+        playerRotation = body.getRotation();
+        playerJiggling = body.isJiggling();
+
+        current.getCollectibleStore().copyCollected(collected);
+    }
+
+    public void setCamera(float prevX, float prevY, float x, float y) {
+        prevCameraX = prevX;
+        prevCameraY = prevY;
+        cameraX = x;
+        cameraY = y;
+    }
+
+    public void setPhaseTotals(long input, long update, long collision) {
+        inputNanos = input;
+        updateNanos = update;
+        collisionNanos = collision;
+    }
+
+    public boolean isCollected(int index) {
+        return collected.get(index);
+    }
+
+    public BitSet getCollected() {
+        return collected;
+    }
+
+    public float getPlayerRenderX(float alpha) { return playerPrevX + (playerX - playerPrevX) * alpha; }
+    public float getPlayerRenderY(float alpha) { return playerPrevY + (playerY - playerPrevY) * alpha; }
+    public float getCameraRenderX(float alpha) { return prevCameraX + (cameraX - prevCameraX) * alpha; }
+    public float getCameraRenderY(float alpha) { return prevCameraY + (cameraY - prevCameraY) * alpha; }
+}
@@ -0,0 +1,40 @@
+// JMH benchmarks for the simulation core. Run with:
+//   ./gradlew :benchmark:jmh
+// Results (including the GC profiler's allocation rate) are written as JSON to
+// build/results/jmh/results.json, or to -PjmhResults=<file> to keep a run for comparison.
+//
+// Also a bot-driven soak runner over thousands of levels (see SoakRunner):
+//   ./gradlew :benchmark:run --args="--from 1 --to 5000"
+plugins {
+    java
+    application
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    implementation(project(":core"))
+    jmh(project(":core"))
+}
+
+application {
+    mainClass.set("com.example.gravityjumper.benchmark.SoakRunner")
+    applicationDefaultJvmArgs = listOf("-Xmx2g")
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    val results = providers.gradleProperty("jmhResults")
+    resultsFile.set(
+        results.map { layout.projectDirectory.file(it) }
+            .orElse(layout.buildDirectory.file("results/jmh/results.json"))
+    )
+    // Narrow a run with -PjmhIncludes=Tick, for example
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
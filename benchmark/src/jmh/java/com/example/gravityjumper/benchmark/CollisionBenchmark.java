@@ -0,0 +1,85 @@
+// CollisionBenchmark.java
+package com.example.gravityjumper.benchmark;
+
+import com.example.gravityjumper.core.Level;
+import com.example.gravityjumper.core.Obstacle;
+import com.example.gravityjumper.core.PlayerBody;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Level.checkCollisions on its own, including swept and overlap resolution against platforms
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    private static final int POSITIONS = 1024;
+
+    @Param({"1", "10", "100", "1000"})
+    public int levelNumber;
+
+    private Level level;
+    private final PlayerBody player = new PlayerBody();
+
+    // Precomputed start positions and moves: half free-flying, half landing on a platform
+    private final float[] startX = new float[POSITIONS];
+    private final float[] startY = new float[POSITIONS];
+    private final float[] moveX = new float[POSITIONS];
+    private final float[] moveY = new float[POSITIONS];
+    private int next = 0;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() {
+        level = new Level(levelNumber, BenchmarkLevels.LEVEL_WIDTH, BenchmarkLevels.LEVEL_HEIGHT);
+        List<Obstacle> obstacles = level.getObstacles();
+        Random random = new Random(levelNumber);
+        for (int i = 0; i < POSITIONS; i++) {
+            if (i % 2 == 0) {
+                startX[i] = 100 + random.nextInt(BenchmarkLevels.LEVEL_WIDTH - 400);
+                startY[i] = 100 + random.nextInt(BenchmarkLevels.LEVEL_HEIGHT - 400);
+            } else {
+                // Fall onto a random platform (skip the four boundary walls)
+                Obstacle target = obstacles.get(4 + random.nextInt(obstacles.size() - 4));
+                startX[i] = target.getCollisionLeft();
+                startY[i] = target.getCollisionTop() - player.getHeight() - 5;
+            }
+            moveX[i] = random.nextFloat() * 20 - 10;
+            moveY[i] = random.nextFloat() * 20;
+        }
+    }
+
+    @Benchmark
+    public float checkCollisions() {
+        int i = next;
+        next = (next + 1) & (POSITIONS - 1);
+
+        // Recreate the state Player.update leaves behind: started at start, moved by move
+        player.setX(startX[i]);
+        player.setY(startY[i]);
+        player.resetInterpolation();
+        player.setVelocityX(moveX[i]);
+        player.setVelocityY(moveY[i]);
+        player.setX(startX[i] + moveX[i]);
+        player.setY(startY[i] + moveY[i]);
+
+        level.checkCollisions(player);
+        return player.getY();
+    }
+}
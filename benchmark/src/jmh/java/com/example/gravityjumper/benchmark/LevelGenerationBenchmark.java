@@ -0,0 +1,51 @@
+// LevelGenerationBenchmark.java
+package com.example.gravityjumper.benchmark;
+
+import com.example.gravityjumper.core.Level;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Time to generate one level (obstacles, grid, collectible and goal placement).
+// The level number is also the generation seed. generate() includes a new Level's one-off setup
+// (its placement candidates); regenerate() is the pooled path the game takes after the first levels.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelGenerationBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int levelNumber;
+
+    private Level pooled;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() {
+        pooled = new Level(levelNumber, BenchmarkLevels.LEVEL_WIDTH, BenchmarkLevels.LEVEL_HEIGHT);
+    }
+
+    @Benchmark
+    public Level generate() {
+        return new Level(levelNumber, BenchmarkLevels.LEVEL_WIDTH, BenchmarkLevels.LEVEL_HEIGHT);
+    }
+
+    @Benchmark
+    public Level regenerate() {
+        pooled.reset(levelNumber);
+        return pooled;
+    }
+}
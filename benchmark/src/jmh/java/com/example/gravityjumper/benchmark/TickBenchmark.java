@@ -0,0 +1,54 @@
+// TickBenchmark.java
+package com.example.gravityjumper.benchmark;
+
+import com.example.gravityjumper.core.GravityDirection;
+import com.example.gravityjumper.core.Simulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Full simulation ticks per second (player update, collisions, obstacle update, transitions)
+// by level number. A level has 9 + levelNumber obstacles. Completing the level moves the
+// simulation back to levelNumber, so every tick measured is on the level being benchmarked.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickBenchmark {
+
+    private static final GravityDirection[] DIRECTIONS = GravityDirection.values();
+
+    @Param({"1", "10", "100", "1000"})
+    public int levelNumber;
+
+    private Simulation simulation;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() {
+        simulation = new Simulation(levelNumber, BenchmarkLevels.LEVEL_WIDTH, BenchmarkLevels.LEVEL_HEIGHT);
+    }
+
+    @Benchmark
+    public float tick() {
+        // Cycle gravity every 1.5 seconds of game time so the player keeps hitting things
+        simulation.setGravity(DIRECTIONS[(int) (simulation.getTickCount() / 90) % DIRECTIONS.length]);
+        simulation.tick();
+        if (simulation.getLevel().getLevelNumber() != levelNumber) {
+            simulation.skipToLevel(levelNumber);
+        }
+        return simulation.getPlayer().getX();
+    }
+}
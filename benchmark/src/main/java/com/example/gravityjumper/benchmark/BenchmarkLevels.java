@@ -0,0 +1,11 @@
+// BenchmarkLevels.java
+package com.example.gravityjumper.benchmark;
+
+// Shared benchmark setup: the level size GameView uses on a 1080x2400 screen (2x in each dimension)
+final class BenchmarkLevels {
+    static final int LEVEL_WIDTH = 2160;
+    static final int LEVEL_HEIGHT = 4800;
+
+    private BenchmarkLevels() {
+    }
+}
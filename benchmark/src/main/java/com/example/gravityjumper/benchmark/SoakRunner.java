@@ -0,0 +1,141 @@
+// SoakRunner.java
+package com.example.gravityjumper.benchmark;
+
+import com.example.gravityjumper.core.BotRunner;
+import com.example.gravityjumper.core.GreedyBot;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Plays a range of levels headless with GreedyBot on every core and reports simulation throughput
+// (ticks/s, levels/min), allocation rate, peak heap, and how many levels the bot could finish in
+// each band of level numbers. Run with:
+//   ./gradlew :benchmark:run --args="--from 1 --to 5000 --threads 8"
+// Options: --from, --to (level numbers, inclusive), --threads (default: available processors),
+// --max-ticks (per level before it counts as timed out, default 36000 = 10 game minutes at 60 Hz),
+// --band (levels per line of the breakdown, default 100).
+public final class SoakRunner {
+    // Levels a worker claims at a time; small enough to balance dense high levels across threads
+    private static final int CHUNK = 8;
+
+    private SoakRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int from = 1;
+        int to = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long maxTicks = 36_000;
+        int band = 100;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--from": from = Integer.parseInt(args[i + 1]); break;
+                case "--to": to = Integer.parseInt(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--max-ticks": maxTicks = Long.parseLong(args[i + 1]); break;
+                case "--band": band = Integer.parseInt(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (to < from || threads < 1 || band < 1) {
+            throw new IllegalArgumentException("Need --from <= --to, --threads >= 1 and --band >= 1");
+        }
+
+        // Per-level results, each slot written by the one worker that played that level
+        int levels = to - from + 1;
+        boolean[] completed = new boolean[levels];
+        long[] levelTicks = new long[levels];
+        long[] levelNanos = new long[levels];
+
+        AtomicInteger nextLevel = new AtomicInteger(from);
+        AtomicLong allocatedBytes = new AtomicLong();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()
+                ? (com.sun.management.ThreadMXBean) threadBean : null;
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+
+        final int firstLevel = from;
+        final int lastLevel = to;
+        final long tickLimit = maxTicks;
+        Thread[] workers = new Thread[threads];
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                long id = Thread.currentThread().getId();
+                long allocatedBefore = allocationBean != null ? allocationBean.getThreadAllocatedBytes(id) : 0;
+                BotRunner runner = new BotRunner(new GreedyBot(),
+                        BenchmarkLevels.LEVEL_WIDTH, BenchmarkLevels.LEVEL_HEIGHT);
+                int chunk;
+                while ((chunk = nextLevel.getAndAdd(CHUNK)) <= lastLevel) {
+                    for (int level = chunk; level < chunk + CHUNK && level <= lastLevel; level++) {
+                        long ticksBefore = runner.getTicks();
+                        long levelStart = System.nanoTime();
+                        completed[level - firstLevel] = runner.playLevel(level, tickLimit);
+                        levelNanos[level - firstLevel] = System.nanoTime() - levelStart;
+                        levelTicks[level - firstLevel] = runner.getTicks() - ticksBefore;
+                    }
+                }
+                if (allocationBean != null) {
+                    allocatedBytes.addAndGet(allocationBean.getThreadAllocatedBytes(id) - allocatedBefore);
+                }
+            }, "Soak-" + t);
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = Math.max(1, System.nanoTime() - start);
+
+        // Sum of each heap pool's peak: an upper bound, as the pools needn't peak together
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peakHeap += pool.getPeakUsage().getUsed();
+            }
+        }
+
+        long totalTicks = 0;
+        int totalCompleted = 0;
+        for (int i = 0; i < levels; i++) {
+            totalTicks += levelTicks[i];
+            totalCompleted += completed[i] ? 1 : 0;
+        }
+        double seconds = elapsed / 1e9;
+        System.out.printf("Levels %d-%d on %d threads: %d completed, %d timed out after %d ticks%n",
+                from, to, threads, totalCompleted, levels - totalCompleted, maxTicks);
+        System.out.printf("  %.1f s, %d ticks: %.0f ticks/s, %.0f levels/min%n",
+                seconds, totalTicks, totalTicks / seconds, levels * 60 / seconds);
+        if (allocationBean != null) {
+            System.out.printf("  allocated %.1f MB: %.2f MB/s, %.1f bytes/tick%n",
+                    allocatedBytes.get() / 1e6, allocatedBytes.get() / 1e6 / seconds,
+                    (double) allocatedBytes.get() / Math.max(1, totalTicks));
+        } else {
+            System.out.println("  allocation rate not supported by this JVM");
+        }
+        System.out.printf("  peak heap %.1f MB%n", peakHeap / 1e6);
+
+        // Where the bot stops finishing levels, and how the time per level grows
+        for (int bandStart = from; bandStart <= to; bandStart += band) {
+            int bandEnd = Math.min(to, bandStart + band - 1);
+            int bandCompleted = 0;
+            long bandTicks = 0;
+            long bandNanos = 0;
+            for (int level = bandStart; level <= bandEnd; level++) {
+                bandCompleted += completed[level - from] ? 1 : 0;
+                bandTicks += levelTicks[level - from];
+                bandNanos += levelNanos[level - from];
+            }
+            System.out.printf("  levels %d-%d: %d/%d completed, %.0f ticks/s per thread%n",
+                    bandStart, bandEnd, bandCompleted, bandEnd - bandStart + 1,
+                    bandTicks * 1e9 / Math.max(1, bandNanos));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+// Android-free game simulation: physics, level generation and collision.
+// Plain JVM library so it can be unit tested and benchmarked off-device.
+plugins {
+    `java-library`
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    testImplementation(libs.junit)
+}
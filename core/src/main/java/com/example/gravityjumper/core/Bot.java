@@ -0,0 +1,9 @@
+// Bot.java
+package com.example.gravityjumper.core;
+
+// Plays the game in place of touch input: picks the gravity for each tick from the simulation state.
+// Used by BotRunner to drive headless soak and throughput runs.
+public interface Bot {
+    // Gravity for the simulation's next tick
+    GravityDirection chooseGravity(Simulation simulation);
+}
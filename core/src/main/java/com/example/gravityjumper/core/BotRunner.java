@@ -0,0 +1,64 @@
+// BotRunner.java
+package com.example.gravityjumper.core;
+
+// Plays levels headless with a Bot, one at a time, as fast as the thread allows, and counts how
+// they went. Owns one Simulation (and so one level pool) that is reused for every level played;
+// not thread-safe, so parallel runs use one BotRunner per thread.
+public class BotRunner {
+    private final Bot bot;
+    private final int levelWidth;
+    private final int levelHeight;
+    private Simulation simulation;
+
+    private long ticks = 0;
+    private int levelsCompleted = 0;
+    private int levelsTimedOut = 0;
+
+    public BotRunner(Bot bot, int levelWidth, int levelHeight) {
+        this.bot = bot;
+        this.levelWidth = levelWidth;
+        this.levelHeight = levelHeight;
+    }
+
+    // Play levelNumber from its start until it's completed or maxTicks have run.
+    // Returns whether it was completed.
+    public boolean playLevel(int levelNumber, long maxTicks) {
+        if (simulation == null) {
+            simulation = new Simulation(levelNumber, levelWidth, levelHeight);
+        } else {
+            simulation.skipToLevel(levelNumber);
+        }
+
+        Level level = simulation.getLevel();
+        int generation = level.getGeneration();
+        for (long tick = 0; tick < maxTicks; tick++) {
+            simulation.setGravity(bot.chooseGravity(simulation));
+            simulation.tick();
+            ticks++;
+            // Completing the level starts the next one within the same tick
+            if (simulation.getLevel() != level || level.getGeneration() != generation) {
+                levelsCompleted++;
+                return true;
+            }
+        }
+        levelsTimedOut++;
+        return false;
+    }
+
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    // Ticks run over all levels played
+    public long getTicks() {
+        return ticks;
+    }
+
+    public int getLevelsCompleted() {
+        return levelsCompleted;
+    }
+
+    public int getLevelsTimedOut() {
+        return levelsTimedOut;
+    }
+}
@@ -0,0 +1,33 @@
+// Collectible.java
+package com.example.gravityjumper.core;
+
+// Flyweight view of one collectible in a CollectibleStore, pooled by the store
+public class Collectible {
+    private final CollectibleStore store;
+    private final int index;
+
+    Collectible(CollectibleStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    // Index of this collectible in its level's CollectibleStore
+    public int getIndex() { return index; }
+
+    public float getX() { return store.getX(index); }
+    public float getY() { return store.getY(index); }
+    public float getRadius() { return CollectibleStore.RADIUS; }
+
+    public boolean isCollected() {
+        return store.isCollected(index);
+    }
+
+    // Add this method to avoid negating isCollected() everywhere
+    public boolean isNotCollected() {
+        return !store.isCollected(index);
+    }
+
+    public void collect() {
+        store.collect(index);
+    }
+}
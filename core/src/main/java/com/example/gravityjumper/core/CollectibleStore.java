@@ -0,0 +1,157 @@
+// CollectibleStore.java
+package com.example.gravityjumper.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+// A level's collectibles as packed coordinate arrays, a BitSet of collected flags and a count of
+// those remaining, so "all collected" is a counter check rather than a scan.
+// Collectibles are points, so after index() each sits in exactly one grid cell and a query needs no
+// de-duplication or scratch state: any thread can query with its own output array.
+// Like ObstacleStore, the arrays and the flyweight Collectible views are reused after clear().
+public class CollectibleStore {
+    // Drawn radius of every collectible
+    public static final float RADIUS = 25;
+
+    private final int columns;
+    private final int rows;
+
+    private int count = 0;
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private final BitSet collected = new BitSet();
+    private int remaining = 0;
+
+    // Cell c holds collectible indices cellItems[cellStart[c]] .. cellItems[cellStart[c + 1] - 1]
+    private final int[] cellStart;
+    private int[] cellItems = new int[0];
+    private final int[] fill;
+
+    private final List<Collectible> viewPool = new ArrayList<>();
+    private final List<Collectible> views = new ArrayList<>();
+    private final List<Collectible> readOnlyViews = Collections.unmodifiableList(views);
+
+    public CollectibleStore(int levelWidth, int levelHeight) {
+        columns = Math.max(1, (levelWidth + ObstacleGrid.CELL_SIZE - 1) / ObstacleGrid.CELL_SIZE);
+        rows = Math.max(1, (levelHeight + ObstacleGrid.CELL_SIZE - 1) / ObstacleGrid.CELL_SIZE);
+        cellStart = new int[columns * rows + 1];
+        fill = new int[columns * rows];
+    }
+
+    // Remove all collectibles, keeping the arrays and views for reuse
+    public void clear() {
+        count = 0;
+        remaining = 0;
+        collected.clear();
+        views.clear();
+        Arrays.fill(cellStart, 0);
+    }
+
+    // Append an uncollected collectible and return its index. Call index() once all are added.
+    public int add(float x, float y) {
+        if (count == this.x.length) {
+            int capacity = Math.max(16, count * 2);
+            this.x = Arrays.copyOf(this.x, capacity);
+            this.y = Arrays.copyOf(this.y, capacity);
+        }
+        int i = count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        remaining++;
+
+        if (i == viewPool.size()) {
+            viewPool.add(new Collectible(this, i));
+        }
+        views.add(viewPool.get(i));
+        return i;
+    }
+
+    // Bucket the collectibles by grid cell for query()
+    public void index() {
+        Arrays.fill(cellStart, 0);
+        for (int i = 0; i < count; i++) {
+            cellStart[cell(x[i], y[i]) + 1]++;
+        }
+        for (int c = 0; c < columns * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        if (cellItems.length < count) {
+            cellItems = new int[Math.max(count, cellItems.length * 2)];
+        }
+        Arrays.fill(fill, 0);
+        for (int i = 0; i < count; i++) {
+            int c = cell(x[i], y[i]);
+            cellItems[cellStart[c] + fill[c]++] = i;
+        }
+    }
+
+    // Write the indices of the collectibles whose cells overlap the box into out (at least size()
+    // long) and return how many. Includes collected ones; check isCollected() as needed.
+    public int query(float left, float top, float right, float bottom, int[] out) {
+        int col0 = column(left);
+        int col1 = column(right);
+        int row0 = row(top);
+        int row1 = row(bottom);
+        int found = 0;
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * columns + col;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    out[found++] = cellItems[k];
+                }
+            }
+        }
+        return found;
+    }
+
+    // Mark collectible i collected; returns false if it already was
+    public boolean collect(int i) {
+        if (collected.get(i)) {
+            return false;
+        }
+        collected.set(i);
+        remaining--;
+        return true;
+    }
+
+    public boolean isCollected(int i) {
+        return collected.get(i);
+    }
+
+    // Copy the collected flags into out, reusing its storage
+    public void copyCollected(BitSet out) {
+        out.clear();
+        out.or(collected);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    public float getX(int i) { return x[i]; }
+    public float getY(int i) { return y[i]; }
+
+    // Read-only list of flyweight views, one per collectible in index order
+    public List<Collectible> getViews() {
+        return readOnlyViews;
+    }
+
+    private int cell(float x, float y) {
+        return row(y) * columns + column(x);
+    }
+
+    private int column(float x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / ObstacleGrid.CELL_SIZE)));
+    }
+
+    private int row(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / ObstacleGrid.CELL_SIZE)));
+    }
+}
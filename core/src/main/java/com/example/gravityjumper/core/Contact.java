@@ -0,0 +1,25 @@
+// Contact.java
+package com.example.gravityjumper.core;
+
+// Scratch result for obstacle contact queries. Callers keep one instance and pass it in,
+// so the collision pass doesn't allocate.
+public class Contact {
+    // Minimum translation that pushes the player out of the obstacle (one axis is always 0)
+    public float mtvX;
+    public float mtvY;
+
+    // Swept contact: fraction of the move completed at first touch, and the normal of the face hit
+    public float time;
+    public float normalX;
+    public float normalY;
+
+    public void set(float mtvX, float mtvY) {
+        this.mtvX = mtvX;
+        this.mtvY = mtvY;
+    }
+
+    // Contact pushed the player sideways
+    public boolean isHorizontal() {
+        return mtvX != 0;
+    }
+}
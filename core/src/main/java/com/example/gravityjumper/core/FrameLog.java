@@ -0,0 +1,22 @@
+// FrameLog.java
+package com.example.gravityjumper.core;
+
+// Binary frame-stats log format shared by FrameLogWriter and FrameLogReader. All values big-endian.
+//
+//   header:        int MAGIC, short VERSION, long session start (epoch millis)
+//   FRAME:         byte 1, int interval since previous frame (us), int work time (us), byte ticks run
+//   LEVEL_STARTED: byte 2, long tick count, int level number, int total score
+public final class FrameLog {
+    public static final int MAGIC = 0x474A464C; // "GJFL"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 4 + 2 + 8;
+
+    public static final byte FRAME = 1;
+    public static final int FRAME_SIZE = 1 + 4 + 4 + 1;
+
+    public static final byte LEVEL_STARTED = 2;
+    public static final int LEVEL_STARTED_SIZE = 1 + 8 + 4 + 4;
+
+    private FrameLog() {
+    }
+}
@@ -0,0 +1,116 @@
+// FrameLogReader.java
+package com.example.gravityjumper.core;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Reads a FrameLog stream one record at a time: call next() until it returns false, then read the
+// fields for the record's type. main() prints a summary of a log file pulled off a device.
+public class FrameLogReader {
+    private final DataInputStream in;
+    private final long sessionStartMillis;
+
+    private byte type;
+    private int intervalMicros;
+    private int workMicros;
+    private int ticks;
+    private long tickCount;
+    private int levelNumber;
+    private int totalScore;
+
+    public FrameLogReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(in);
+        if (this.in.readInt() != FrameLog.MAGIC) {
+            throw new IOException("Not a frame log");
+        }
+        short version = this.in.readShort();
+        if (version != FrameLog.VERSION) {
+            throw new IOException("Unsupported frame log version " + version);
+        }
+        sessionStartMillis = this.in.readLong();
+    }
+
+    // Advance to the next record; false at the end of the log
+    public boolean next() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            return false;
+        }
+        type = (byte) b;
+        try {
+            switch (type) {
+                case FrameLog.FRAME:
+                    intervalMicros = in.readInt();
+                    workMicros = in.readInt();
+                    ticks = in.readUnsignedByte();
+                    return true;
+                case FrameLog.LEVEL_STARTED:
+                    tickCount = in.readLong();
+                    levelNumber = in.readInt();
+                    totalScore = in.readInt();
+                    return true;
+                default:
+                    throw new IOException("Unknown record type " + type);
+            }
+        } catch (EOFException e) {
+            // The last record was cut short (e.g. the app was killed mid-write)
+            return false;
+        }
+    }
+
+    public long getSessionStartMillis() { return sessionStartMillis; }
+    public byte getType() { return type; }
+
+    // FRAME fields
+    public int getIntervalMicros() { return intervalMicros; }
+    public int getWorkMicros() { return workMicros; }
+    public int getTicks() { return ticks; }
+
+    // LEVEL_STARTED fields
+    public long getTickCount() { return tickCount; }
+    public int getLevelNumber() { return levelNumber; }
+    public int getTotalScore() { return totalScore; }
+
+    // Print a per-level summary of each log: frame count, mean and worst frame interval and work time
+    public static void main(String[] args) throws IOException {
+        for (String path : args) {
+            try (InputStream file = new BufferedInputStream(new FileInputStream(path))) {
+                FrameLogReader reader = new FrameLogReader(file);
+                System.out.println(path + " (session start " + reader.getSessionStartMillis() + ")");
+
+                int level = 0;
+                int frames = 0;
+                long intervalSum = 0;
+                long intervalMax = 0;
+                long workSum = 0;
+                long workMax = 0;
+                while (true) {
+                    boolean more = reader.next();
+                    if (!more || reader.getType() == FrameLog.LEVEL_STARTED) {
+                        if (frames > 0) {
+                            System.out.printf("  level %d: %d frames, interval avg %.2f / max %.2f ms, work avg %.2f / max %.2f ms%n",
+                                    level, frames, intervalSum / 1000.0 / frames, intervalMax / 1000.0,
+                                    workSum / 1000.0 / frames, workMax / 1000.0);
+                        }
+                        if (!more) {
+                            break;
+                        }
+                        level = reader.getLevelNumber();
+                        frames = 0;
+                        intervalSum = intervalMax = workSum = workMax = 0;
+                    } else {
+                        frames++;
+                        intervalSum += reader.getIntervalMicros();
+                        intervalMax = Math.max(intervalMax, reader.getIntervalMicros());
+                        workSum += reader.getWorkMicros();
+                        workMax = Math.max(workMax, reader.getWorkMicros());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+// FrameLogWriter.java
+package com.example.gravityjumper.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Appends FrameLog records from the game thread without blocking it on I/O.
+// Records go into one of two byte[] buffers; when it fills, it's handed to a writer thread and
+// the other buffer takes over. If the writer hasn't returned the other buffer yet, records are
+// dropped (and counted) rather than stalling the frame.
+public class FrameLogWriter implements Closeable {
+    private final OutputStream out;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FrameLogWriter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Filled by the game thread
+    private byte[] active;
+    private int position = 0;
+    // Returned by the writer thread once its contents are on disk; null while it's being written
+    private byte[] spare;
+    private final Object spareLock = new Object();
+
+    private int droppedRecords = 0;
+    private volatile IOException writeError;
+    private boolean closed = false;
+
+    public FrameLogWriter(OutputStream out, int bufferSize, long sessionStartMillis) {
+        if (bufferSize < FrameLog.HEADER_SIZE + FrameLog.LEVEL_STARTED_SIZE) {
+            throw new IllegalArgumentException("bufferSize too small: " + bufferSize);
+        }
+        this.out = out;
+        this.active = new byte[bufferSize];
+        this.spare = new byte[bufferSize];
+
+        putInt(FrameLog.MAGIC);
+        putShort(FrameLog.VERSION);
+        putLong(sessionStartMillis);
+    }
+
+    public void frame(long intervalNanos, long workNanos, int ticks) {
+        if (reserve(FrameLog.FRAME_SIZE)) {
+            active[position++] = FrameLog.FRAME;
+            putInt(toMicros(intervalNanos));
+            putInt(toMicros(workNanos));
+            active[position++] = (byte) Math.min(ticks, 255);
+        }
+    }
+
+    public void levelStarted(long tickCount, int levelNumber, int totalScore) {
+        if (reserve(FrameLog.LEVEL_STARTED_SIZE)) {
+            active[position++] = FrameLog.LEVEL_STARTED;
+            putLong(tickCount);
+            putInt(levelNumber);
+            putInt(totalScore);
+        }
+    }
+
+    // Records lost because the writer thread fell behind
+    public int getDroppedRecords() {
+        return droppedRecords;
+    }
+
+    // Make room for size bytes, handing the full buffer to the writer if needed
+    private boolean reserve(int size) {
+        if (closed) {
+            return false;
+        }
+        if (position + size <= active.length || swapBuffers()) {
+            return true;
+        }
+        droppedRecords++;
+        return false;
+    }
+
+    private boolean swapBuffers() {
+        byte[] next;
+        synchronized (spareLock) {
+            next = spare;
+            spare = null;
+        }
+        if (next == null) {
+            return false;
+        }
+        submit(active, position);
+        active = next;
+        position = 0;
+        return true;
+    }
+
+    private void submit(byte[] buffer, int length) {
+        writer.execute(() -> {
+            try {
+                if (writeError == null) {
+                    out.write(buffer, 0, length);
+                }
+            } catch (IOException e) {
+                writeError = e;
+            }
+            synchronized (spareLock) {
+                spare = buffer;
+            }
+        });
+    }
+
+    // Write out everything recorded so far and close the stream
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (position > 0) {
+            submit(active, position);
+            position = 0;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        out.close();
+        if (writeError != null) {
+            throw writeError;
+        }
+    }
+
+    private static int toMicros(long nanos) {
+        return (int) Math.min(nanos / 1000, Integer.MAX_VALUE);
+    }
+
+    private void putShort(short value) {
+        active[position++] = (byte) (value >>> 8);
+        active[position++] = (byte) value;
+    }
+
+    private void putInt(int value) {
+        active[position++] = (byte) (value >>> 24);
+        active[position++] = (byte) (value >>> 16);
+        active[position++] = (byte) (value >>> 8);
+        active[position++] = (byte) value;
+    }
+
+    private void putLong(long value) {
+        putInt((int) (value >>> 32));
+        putInt((int) value);
+    }
+}
@@ -0,0 +1,19 @@
+// FramePhase.java
+package com.example.gravityjumper.core;
+
+// The parts of a frame FrameTimings breaks its time into
+public enum FramePhase {
+    INPUT("input"),
+    UPDATE("update"),
+    COLLISION("collide"),
+    DRAW("draw"),
+    LOCK_CANVAS("lock"),
+    UNLOCK_POST("post");
+
+    // Short name for the timing overlay
+    public final String label;
+
+    FramePhase(String label) {
+        this.label = label;
+    }
+}
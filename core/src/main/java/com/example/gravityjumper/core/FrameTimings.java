@@ -0,0 +1,93 @@
+// FrameTimings.java
+package com.example.gravityjumper.core;
+
+import java.util.Arrays;
+
+// Per-phase frame timings for the debug overlay. Phases are accumulated over a frame with add()
+// (a frame may run several ticks) and committed to rolling histograms by endFrame().
+// Frame-to-frame intervals give FPS, the 1% / 0.1% lows and a count of janky frames.
+// Nothing here allocates after construction.
+public class FrameTimings {
+    // Long enough for the 0.1% low to be a real frame rather than the max
+    public static final int WINDOW_FRAMES = 1000;
+    private static final long BUCKET_NANOS = 50_000; // 0.05 ms
+    private static final int BUCKET_COUNT = 2000; // up to 100 ms
+
+    private static final FramePhase[] PHASES = FramePhase.values();
+
+    private final TimingHistogram frameIntervals = new TimingHistogram(WINDOW_FRAMES, BUCKET_NANOS, BUCKET_COUNT);
+    private final TimingHistogram[] phases = new TimingHistogram[PHASES.length];
+    private final long[] currentFrame = new long[PHASES.length];
+
+    // A frame counts as jank when it takes longer than 1.5 display refreshes
+    private final long jankThresholdNanos;
+    private long lastFrameStartNanos = 0;
+    private int jankCount = 0;
+
+    public FrameTimings(long frameBudgetNanos) {
+        this.jankThresholdNanos = frameBudgetNanos + frameBudgetNanos / 2;
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new TimingHistogram(WINDOW_FRAMES, BUCKET_NANOS, BUCKET_COUNT);
+        }
+    }
+
+    public void beginFrame(long nowNanos) {
+        if (lastFrameStartNanos != 0) {
+            long interval = nowNanos - lastFrameStartNanos;
+            frameIntervals.record(interval);
+            if (interval > jankThresholdNanos) {
+                jankCount++;
+            }
+        }
+        lastFrameStartNanos = nowNanos;
+    }
+
+    public void add(FramePhase phase, long nanos) {
+        currentFrame[phase.ordinal()] += nanos;
+    }
+
+    public void endFrame() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i].record(currentFrame[i]);
+            currentFrame[i] = 0;
+        }
+    }
+
+    // Forget the last frame start, e.g. across a pause, so the gap isn't counted as a frame
+    public void resetFrameClock() {
+        lastFrameStartNanos = 0;
+    }
+
+    public TimingHistogram getPhase(FramePhase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    public TimingHistogram getFrameIntervals() {
+        return frameIntervals;
+    }
+
+    public float getFps() {
+        long mean = frameIntervals.getMean();
+        return mean > 0 ? 1e9f / mean : 0;
+    }
+
+    // FPS of the slowest fraction of frames, e.g. 0.01 for the 1% low
+    public float getLowFps(double fraction) {
+        long slow = frameIntervals.getPercentile(1 - fraction);
+        return slow > 0 ? 1e9f / slow : 0;
+    }
+
+    public int getJankCount() {
+        return jankCount;
+    }
+
+    public void reset() {
+        frameIntervals.reset();
+        for (TimingHistogram phase : phases) {
+            phase.reset();
+        }
+        Arrays.fill(currentFrame, 0);
+        lastFrameStartNanos = 0;
+        jankCount = 0;
+    }
+}
@@ -0,0 +1,12 @@
+// GameListener.java
+package com.example.gravityjumper.core;
+
+// Gameplay events raised by the simulation, for sound, music and persistence on the app side.
+// Called on the thread that runs the simulation.
+public interface GameListener {
+    default void onCollectiblePicked(Level level) {}
+
+    default void onLevelCompleted(Level level) {}
+
+    default void onLevelStarted(Level level) {}
+}
@@ -0,0 +1,6 @@
+// GravityDirection.java
+package com.example.gravityjumper.core;
+
+public enum GravityDirection {
+    DOWN, UP, LEFT, RIGHT
+}
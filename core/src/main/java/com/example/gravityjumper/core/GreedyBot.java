@@ -0,0 +1,217 @@
+// GreedyBot.java
+package com.example.gravityjumper.core;
+
+import java.util.Arrays;
+
+// Chases the nearest uncollected collectible, then the goal. Each level is rasterized once into a
+// coarse grid of cells the player's center can occupy without touching an obstacle; each new
+// target gets a breadth-first distance field over that grid, and every tick the bot steers toward
+// a cell a few steps down the field, along whichever axis it's furthest off once its current
+// velocity has played out. Nothing is allocated per tick, and it's deterministic, so a bot run is
+// reproducible.
+public class GreedyBot implements Bot {
+    private static final int CELL_SIZE = 50;
+    // Path cells ahead of the player's cell to steer for
+    private static final int LOOKAHEAD_CELLS = 3;
+    // With 5% drag per tick, the player coasts about 1 / 0.05 ticks' worth of its velocity
+    private static final float COAST_TICKS = 20;
+    // Ticks without getting closer along the path before pushing sideways to get unstuck
+    private static final int STUCK_TICKS = 120;
+    private static final int ESCAPE_TICKS = 40;
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    // Level and layout the grid was built for
+    private Level level;
+    private int generation;
+
+    private int columns;
+    private int rows;
+    private boolean[] blocked = new boolean[0];
+    private int[] distance = new int[0];
+    private int[] queue = new int[0];
+
+    // Collectible index being chased, or -1 for the goal
+    private int target;
+    private int bestDistance;
+    private int ticksWithoutProgress;
+    private GravityDirection escape;
+    private int escapeTicks;
+    private int escapes;
+
+    @Override
+    public GravityDirection chooseGravity(Simulation simulation) {
+        Level current = simulation.getLevel();
+        PlayerBody player = simulation.getPlayer();
+        if (current != level || current.getGeneration() != generation) {
+            level = current;
+            generation = current.getGeneration();
+            buildGrid(player);
+            target = Integer.MIN_VALUE;
+        }
+
+        float centerX = player.getX() + (float) player.getWidth() / 2;
+        float centerY = player.getY() + (float) player.getHeight() / 2;
+
+        // Nearest uncollected collectible, or the goal once they're all collected
+        CollectibleStore collectibles = current.getCollectibleStore();
+        int nearest = -1;
+        float targetX = (current.getGoalLeft() + current.getGoalRight()) / 2;
+        float targetY = (current.getGoalTop() + current.getGoalBottom()) / 2;
+        float nearestDistance = Float.MAX_VALUE;
+        for (int i = 0, n = collectibles.size(); i < n; i++) {
+            if (collectibles.isCollected(i)) {
+                continue;
+            }
+            float dx = collectibles.getX(i) - centerX;
+            float dy = collectibles.getY(i) - centerY;
+            float d = dx * dx + dy * dy;
+            if (d < nearestDistance) {
+                nearestDistance = d;
+                nearest = i;
+            }
+        }
+        if (nearest >= 0) {
+            targetX = collectibles.getX(nearest);
+            targetY = collectibles.getY(nearest);
+        }
+        if (nearest != target) {
+            target = nearest;
+            fillDistances(cell(targetX, targetY));
+            bestDistance = UNREACHED;
+            ticksWithoutProgress = 0;
+            escapeTicks = 0;
+            escapes = 0;
+        }
+
+        // Walk down the distance field from the player's cell to pick a waypoint
+        int here = cell(centerX, centerY);
+        int pathDistance = distance[here];
+        float waypointX = targetX;
+        float waypointY = targetY;
+        if (pathDistance != UNREACHED) {
+            int waypoint = here;
+            for (int step = 0; step < LOOKAHEAD_CELLS && distance[waypoint] > 0; step++) {
+                waypoint = downhill(waypoint);
+            }
+            if (distance[waypoint] > 0 || waypoint != cell(targetX, targetY)) {
+                waypointX = (waypoint % columns + 0.5f) * CELL_SIZE;
+                waypointY = (waypoint / columns + 0.5f) * CELL_SIZE;
+            }
+        }
+
+        // Off the path or blocked in: fall back to heading straight for the target
+        int progress = pathDistance != UNREACHED ? pathDistance
+                : (int) (Math.abs(targetX - centerX) + Math.abs(targetY - centerY)) / CELL_SIZE;
+        if (progress < bestDistance) {
+            bestDistance = progress;
+            ticksWithoutProgress = 0;
+        } else {
+            ticksWithoutProgress++;
+        }
+
+        // Where the player is off the waypoint once it has coasted to a stop
+        float offX = waypointX - centerX - player.getVelocityX() * COAST_TICKS;
+        float offY = waypointY - centerY - player.getVelocityY() * COAST_TICKS;
+        boolean horizontal = Math.abs(offX) > Math.abs(offY);
+
+        if (escapeTicks > 0) {
+            escapeTicks--;
+            return escape;
+        }
+        if (ticksWithoutProgress > STUCK_TICKS) {
+            // Push across the blocked axis, alternating sides between attempts
+            boolean firstSide = (escapes++ & 1) == 0;
+            if (horizontal) {
+                escape = firstSide ? GravityDirection.UP : GravityDirection.DOWN;
+            } else {
+                escape = firstSide ? GravityDirection.LEFT : GravityDirection.RIGHT;
+            }
+            escapeTicks = ESCAPE_TICKS;
+            ticksWithoutProgress = 0;
+            bestDistance = UNREACHED;
+            return escape;
+        }
+
+        if (horizontal) {
+            return offX > 0 ? GravityDirection.RIGHT : GravityDirection.LEFT;
+        }
+        return offY > 0 ? GravityDirection.DOWN : GravityDirection.UP;
+    }
+
+    // Mark the cells whose centers would put the player's box into an obstacle's collision box
+    private void buildGrid(PlayerBody player) {
+        columns = Math.max(1, (level.getLevelWidth() + CELL_SIZE - 1) / CELL_SIZE);
+        rows = Math.max(1, (level.getLevelHeight() + CELL_SIZE - 1) / CELL_SIZE);
+        int cells = columns * rows;
+        if (blocked.length < cells) {
+            blocked = new boolean[cells];
+            distance = new int[cells];
+            queue = new int[cells];
+        }
+        Arrays.fill(blocked, 0, cells, false);
+
+        float halfWidth = (float) player.getWidth() / 2;
+        float halfHeight = (float) player.getHeight() / 2;
+        ObstacleStore obstacles = level.getObstacleStore();
+        for (int i = 0, n = obstacles.size(); i < n; i++) {
+            // Cell centers strictly inside the obstacle grown by half the player
+            float left = obstacles.getCollisionLeft(i) - halfWidth;
+            float top = obstacles.getCollisionTop(i) - halfHeight;
+            float right = obstacles.getCollisionRight(i) + halfWidth;
+            float bottom = obstacles.getCollisionBottom(i) + halfHeight;
+            int col0 = Math.max(0, (int) Math.ceil(left / CELL_SIZE - 0.5f));
+            int col1 = Math.min(columns - 1, (int) Math.floor(right / CELL_SIZE - 0.5f));
+            int row0 = Math.max(0, (int) Math.ceil(top / CELL_SIZE - 0.5f));
+            int row1 = Math.min(rows - 1, (int) Math.floor(bottom / CELL_SIZE - 0.5f));
+            for (int row = row0; row <= row1; row++) {
+                Arrays.fill(blocked, row * columns + col0, row * columns + Math.max(col0, col1 + 1), true);
+            }
+        }
+    }
+
+    // Breadth-first steps from goalCell to every free cell. The goal's own cell may be blocked: a
+    // collectible is picked up from up to a pickup radius away.
+    private void fillDistances(int goalCell) {
+        int cells = columns * rows;
+        Arrays.fill(distance, 0, cells, UNREACHED);
+        distance[goalCell] = 0;
+        queue[0] = goalCell;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int c = queue[head++];
+            int next = distance[c] + 1;
+            int col = c % columns;
+            if (col > 0 && visit(c - 1, next)) queue[tail++] = c - 1;
+            if (col < columns - 1 && visit(c + 1, next)) queue[tail++] = c + 1;
+            if (c >= columns && visit(c - columns, next)) queue[tail++] = c - columns;
+            if (c < cells - columns && visit(c + columns, next)) queue[tail++] = c + columns;
+        }
+    }
+
+    private boolean visit(int c, int d) {
+        if (blocked[c] || distance[c] != UNREACHED) {
+            return false;
+        }
+        distance[c] = d;
+        return true;
+    }
+
+    // The neighbour of c closest to the goal
+    private int downhill(int c) {
+        int best = c;
+        int col = c % columns;
+        if (col > 0 && distance[c - 1] < distance[best]) best = c - 1;
+        if (col < columns - 1 && distance[c + 1] < distance[best]) best = c + 1;
+        if (c >= columns && distance[c - columns] < distance[best]) best = c - columns;
+        if (c < columns * rows - columns && distance[c + columns] < distance[best]) best = c + columns;
+        return best;
+    }
+
+    private int cell(float x, float y) {
+        int col = Math.max(0, Math.min(columns - 1, (int) (x / CELL_SIZE)));
+        int row = Math.max(0, Math.min(rows - 1, (int) (y / CELL_SIZE)));
+        return row * columns + col;
+    }
+}
@@ -0,0 +1,23 @@
+// InputLog.java
+package com.example.gravityjumper.core;
+
+// Binary input recording format shared by InputRecorder and InputReplay. Fixed-size values are
+// big-endian; tick gaps are unsigned LEB128 varints, so a typical gravity change takes 3 bytes.
+// A session is fully determined by its header and gravity changes: levels are seeded by number.
+//
+//   header:  int MAGIC, short VERSION, long session start (epoch millis),
+//            int start level, int level width, int level height, byte initial gravity
+//   GRAVITY: byte 1, varint ticks since the previous record, byte gravity ordinal.
+//            Takes effect before the tick that runs when Simulation.getTickCount() is that value.
+//   END:     byte 2, varint ticks since the previous record. The session has run this far;
+//            written whenever the recorder is flushed, so the last one marks the end.
+public final class InputLog {
+    public static final int MAGIC = 0x474A4952; // "GJIR"
+    public static final short VERSION = 1;
+
+    public static final byte GRAVITY = 1;
+    public static final byte END = 2;
+
+    private InputLog() {
+    }
+}
@@ -0,0 +1,93 @@
+// InputRecorder.java
+package com.example.gravityjumper.core;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Writes an InputLog for a session as it's played, from the simulation thread.
+// Gravity changes are a few bytes each and rare, so they go straight into the (buffered) stream;
+// a write error stops recording and is reported by close().
+public class InputRecorder implements Closeable {
+    private final DataOutputStream out;
+    private long lastTick = 0;
+    private GravityDirection gravity;
+    private IOException writeError;
+    private boolean closed = false;
+
+    public InputRecorder(OutputStream out, long sessionStartMillis, int startLevel,
+                         int levelWidth, int levelHeight, GravityDirection initialGravity) {
+        this.out = new DataOutputStream(out);
+        this.gravity = initialGravity;
+        try {
+            this.out.writeInt(InputLog.MAGIC);
+            this.out.writeShort(InputLog.VERSION);
+            this.out.writeLong(sessionStartMillis);
+            this.out.writeInt(startLevel);
+            this.out.writeInt(levelWidth);
+            this.out.writeInt(levelHeight);
+            this.out.writeByte(initialGravity.ordinal());
+        } catch (IOException e) {
+            writeError = e;
+        }
+    }
+
+    // Call with the gravity about to be applied before the tick at tickCount; records it if it changed
+    public void gravity(long tickCount, GravityDirection direction) {
+        if (direction == gravity) {
+            return;
+        }
+        gravity = direction;
+        if (writeError == null && !closed) {
+            try {
+                out.writeByte(InputLog.GRAVITY);
+                writeTicks(tickCount);
+                out.writeByte(direction.ordinal());
+            } catch (IOException e) {
+                writeError = e;
+            }
+        }
+    }
+
+    // Record that the session has reached tickCount and push everything to the stream
+    public void flush(long tickCount) {
+        if (writeError == null && !closed) {
+            try {
+                out.writeByte(InputLog.END);
+                writeTicks(tickCount);
+                out.flush();
+            } catch (IOException e) {
+                writeError = e;
+            }
+        }
+    }
+
+    public void close(long tickCount) throws IOException {
+        flush(tickCount);
+        close();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        out.close();
+        if (writeError != null) {
+            throw writeError;
+        }
+    }
+
+    private void writeTicks(long tickCount) throws IOException {
+        long delta = Math.max(0, tickCount - lastTick);
+        lastTick = Math.max(lastTick, tickCount);
+        // Unsigned LEB128: 7 bits per byte, high bit set on all but the last
+        while (delta >= 0x80) {
+            out.writeByte((int) (delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        out.writeByte((int) delta);
+    }
+}
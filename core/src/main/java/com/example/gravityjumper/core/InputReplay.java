@@ -0,0 +1,163 @@
+// InputReplay.java
+package com.example.gravityjumper.core;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+// A recorded InputLog, parsed up front so playback does no I/O or allocation per tick.
+// Feed it a simulation built by createSimulation(): call apply() before each tick to set the
+// recorded gravity, or run() to play the whole session back as fast as the JVM allows.
+// main() replays log files pulled off a device and prints where each session ended up.
+public class InputReplay {
+    private final long sessionStartMillis;
+    private final int startLevel;
+    private final int levelWidth;
+    private final int levelHeight;
+    private final GravityDirection initialGravity;
+
+    // Gravity changes in tick order: gravity[k] applies from tick ticks[k]
+    private long[] ticks = new long[16];
+    private byte[] gravity = new byte[16];
+    private int count = 0;
+    private long endTick = 0;
+
+    // Playback position: the next change to apply
+    private int next = 0;
+
+    public InputReplay(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != InputLog.MAGIC) {
+            throw new IOException("Not an input log");
+        }
+        short version = data.readShort();
+        if (version != InputLog.VERSION) {
+            throw new IOException("Unsupported input log version " + version);
+        }
+        sessionStartMillis = data.readLong();
+        startLevel = data.readInt();
+        levelWidth = data.readInt();
+        levelHeight = data.readInt();
+        initialGravity = direction(data.readUnsignedByte());
+
+        long tick = 0;
+        try {
+            int type;
+            while ((type = data.read()) >= 0) {
+                tick += readTicks(data);
+                switch (type) {
+                    case InputLog.GRAVITY:
+                        GravityDirection direction = direction(data.readUnsignedByte());
+                        if (count == ticks.length) {
+                            ticks = Arrays.copyOf(ticks, count * 2);
+                            gravity = Arrays.copyOf(gravity, count * 2);
+                        }
+                        ticks[count] = tick;
+                        gravity[count] = (byte) direction.ordinal();
+                        count++;
+                        break;
+                    case InputLog.END:
+                        break;
+                    default:
+                        throw new IOException("Unknown record type " + type);
+                }
+                endTick = tick;
+            }
+        } catch (EOFException e) {
+            // The last record was cut short (e.g. the app was killed mid-write); play what's complete
+        }
+    }
+
+    private static long readTicks(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 56) {
+                throw new IOException("Malformed tick delta");
+            }
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static GravityDirection direction(int ordinal) throws IOException {
+        GravityDirection[] values = GravityDirection.values();
+        if (ordinal >= values.length) {
+            throw new IOException("Unknown gravity " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    // A fresh simulation in the state the recorded session started in, with synchronous levels
+    public Simulation createSimulation() {
+        Simulation simulation = new Simulation(startLevel, levelWidth, levelHeight);
+        simulation.setGravity(initialGravity);
+        return simulation;
+    }
+
+    // Set the gravity recorded for simulation's next tick and return it. Call before each tick().
+    public GravityDirection apply(Simulation simulation) {
+        long tick = simulation.getTickCount();
+        while (next < count && ticks[next] <= tick) {
+            simulation.setGravity(GravityDirection.values()[gravity[next]]);
+            next++;
+        }
+        return simulation.getGravity();
+    }
+
+    // Has simulation run every tick the recorded session did?
+    public boolean isFinished(Simulation simulation) {
+        return simulation.getTickCount() >= endTick;
+    }
+
+    // Play the rest of the session into simulation without pacing
+    public void run(Simulation simulation) {
+        while (!isFinished(simulation)) {
+            apply(simulation);
+            simulation.tick();
+        }
+    }
+
+    // Start playback over, for a new simulation
+    public void rewind() {
+        next = 0;
+    }
+
+    public long getSessionStartMillis() { return sessionStartMillis; }
+    public int getStartLevel() { return startLevel; }
+    public int getLevelWidth() { return levelWidth; }
+    public int getLevelHeight() { return levelHeight; }
+    public GravityDirection getInitialGravity() { return initialGravity; }
+
+    // Ticks the recorded session ran
+    public long getEndTick() { return endTick; }
+
+    // Number of recorded gravity changes
+    public int getEventCount() { return count; }
+
+    // Replay each log headless and print the final tick, level and score, and the replay speed
+    public static void main(String[] args) throws IOException {
+        for (String path : args) {
+            InputReplay replay;
+            try (InputStream file = new BufferedInputStream(new FileInputStream(path))) {
+                replay = new InputReplay(file);
+            }
+            Simulation simulation = replay.createSimulation();
+            long start = System.nanoTime();
+            replay.run(simulation);
+            long elapsed = Math.max(1, System.nanoTime() - start);
+            System.out.printf("%s (session start %d): %d gravity changes, %d ticks, level %d, score %d (%.0f ticks/s)%n",
+                    path, replay.getSessionStartMillis(), replay.getEventCount(), simulation.getTickCount(),
+                    simulation.getLevel().getLevelNumber(),
+                    simulation.getTotalScore() + simulation.getLevel().getScore(),
+                    simulation.getTickCount() * 1e9 / elapsed);
+        }
+    }
+}
@@ -0,0 +1,592 @@
+// Level.java
+package com.example.gravityjumper.core;
+
+import java.util.List;
+import java.util.Random;
+
+// A level can be regenerated in place with reset(), reusing its obstacle and collectible objects,
+// so LevelPool can cycle a few Level instances through a whole session instead of allocating new ones.
+public class Level {
+    private int levelNumber;
+    private final ObstacleStore obstacles = new ObstacleStore();
+    private final CollectibleStore collectibles;
+    private ObstacleGrid obstacleGrid; // Broadphase over the static obstacles, built in generateLevel
+
+    private final Random random = new Random();
+    // Bumped by reset(); together with the instance it identifies one generated layout
+    private int generation = 0;
+    // Goal area edges
+    private float goalLeft, goalTop, goalRight, goalBottom;
+    private final int levelWidth;
+    private final int levelHeight;
+    private boolean completed = false;
+    private GameListener listener;
+
+    // New fields for scoring
+    private int score = 0;
+
+    // Collision scratch state, reused every tick so checkCollisions doesn't allocate
+    private final Contact contact = new Contact();
+
+    // Most contacts the player's move can slide along in a single tick
+    private static final int MAX_SWEEP_CONTACTS = 4;
+
+    // Distance from the player's center within which a collectible is picked up
+    private static final float PICKUP_RADIUS = 80; // Large collection radius
+    // Collectible indices near the player, filled by the pickup query
+    private int[] nearbyCollectibles = new int[0];
+
+    // Collectible and goal placement picks from candidate spots: a blue-noise (Poisson-disk) set at
+    // least PLACEMENT_SPACING apart and PLACEMENT_PADDING in from the level edges. The set is sampled
+    // once per Level instance from a fixed seed; each generated level shifts it by a seeded offset
+    // (which keeps the spacing) and visits it in a seeded order, so the per-level cost is a shuffle
+    // plus a few clearance queries, whatever the level number.
+    private static final float PLACEMENT_SPACING = 150;
+    private static final float PLACEMENT_PADDING = 150;
+    private static final long PLACEMENT_SEED = 0x6A756D70L;
+    // Obstacle clearance is only measured this far out; enough for the goal's safe distance
+    private static final float MAX_CLEARANCE = 200;
+    private final PoissonDiskSampler placementSampler = new PoissonDiskSampler(PLACEMENT_SPACING);
+    private final int placementCandidates;
+    private float placementOffsetX;
+    private float placementOffsetY;
+    // Per candidate: an upper bound on its distance to the nearest obstacle, exact once measured in
+    // full (-1 once taken), and the seeded visiting order
+    private final float[] clearance;
+    private final boolean[] clearanceExact;
+    private final int[] placementOrder;
+    // A box of half-size h centered on a spot clears every obstacle if the spot is h * SQRT_2 from
+    // the nearest one
+    private static final float SQRT_2 = (float) Math.sqrt(2);
+    // When no candidate has room, a finer scan of the level looks for a spot; this is its step
+    private static final float FALLBACK_STEP = 25;
+    // The spot found by the last findClearSpot()
+    private float spotX;
+    private float spotY;
+
+    // Add overloaded constructor
+    public Level(int levelNumber) {
+        this(levelNumber, 2000, 1500); // Default sizes
+    }
+
+    // The level number seeds generation, so the same number always yields the same layout
+    public Level(int levelNumber, int levelWidth, int levelHeight) {
+        this.levelNumber = levelNumber;
+        this.levelWidth = levelWidth;
+        this.levelHeight = levelHeight;
+
+        collectibles = new CollectibleStore(levelWidth, levelHeight);
+
+        // Leave room for the per-level offset of up to PLACEMENT_SPACING in each direction
+        placementCandidates = placementSampler.sample(PLACEMENT_PADDING, PLACEMENT_PADDING,
+                levelWidth - PLACEMENT_PADDING - PLACEMENT_SPACING,
+                levelHeight - PLACEMENT_PADDING - PLACEMENT_SPACING, new Random(PLACEMENT_SEED));
+        clearance = new float[placementCandidates];
+        clearanceExact = new boolean[placementCandidates];
+        placementOrder = new int[placementCandidates];
+
+        generate();
+    }
+
+    // Regenerate this level in place as level levelNumber, as if newly constructed at the same size.
+    // Must not be called while anything (a renderer) still reads the old layout.
+    public void reset(int levelNumber) {
+        this.levelNumber = levelNumber;
+        completed = false;
+        score = 0;
+        listener = null;
+        generation++;
+        generate();
+    }
+
+    private void generate() {
+        Tracing.begin("generateLevel");
+        try {
+            generateLevel();
+        } finally {
+            Tracing.end();
+        }
+    }
+
+    // Getters for score and level information
+    public int getScore() {
+        return score;
+    }
+
+    public void resetScore() {
+        score = 0;
+    }
+
+    // Method to decrement score
+    public void decrementScore(int amount) {
+        score = Math.max(0, score - amount);
+    }
+
+    // This method returns the level number
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    // Getters for level dimensions
+    public int getLevelWidth() {
+        return levelWidth;
+    }
+
+    public int getLevelHeight() {
+        return levelHeight;
+    }
+
+    // Flyweight views of the collectibles; hot loops use getCollectibleStore()
+    public List<Collectible> getCollectibles() {
+        return collectibles.getViews();
+    }
+
+    public CollectibleStore getCollectibleStore() {
+        return collectibles;
+    }
+
+    // Flyweight views of the obstacles, for callers that want objects; hot loops use getObstacleStore()
+    public List<Obstacle> getObstacles() {
+        return obstacles.getViews();
+    }
+
+    public ObstacleStore getObstacleStore() {
+        return obstacles;
+    }
+
+    // Spatial index over the obstacles (not thread-safe: queries reuse scratch state)
+    public ObstacleGrid getObstacleGrid() {
+        return obstacleGrid;
+    }
+
+    // Changes on every reset(), for caches keyed on the level's layout
+    public int getGeneration() {
+        return generation;
+    }
+
+    // Goal area edges
+    public float getGoalLeft() { return goalLeft; }
+    public float getGoalTop() { return goalTop; }
+    public float getGoalRight() { return goalRight; }
+    public float getGoalBottom() { return goalBottom; }
+
+    // Receives collect/complete events raised by checkCollisions
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    private void generateLevel() {
+        obstacles.clear();
+        collectibles.clear();
+
+        // Add boundary walls as obstacles
+        float speed = 0; // Stationary obstacles for boundaries
+
+        // Top boundary
+        obstacles.add(0, 0, levelWidth, 50, 0, 0, speed, ObstacleStore.TYPE_WALL);
+
+        // Bottom boundary
+        obstacles.add(0, levelHeight - 50, levelWidth, 50, 0, 0, speed, ObstacleStore.TYPE_WALL);
+
+        // Left boundary
+        obstacles.add(0, 0, 50, levelHeight, 0, 0, speed, ObstacleStore.TYPE_WALL);
+
+        // Right boundary
+        obstacles.add(levelWidth - 50, 0, 50, levelHeight, 0, 0, speed, ObstacleStore.TYPE_WALL);
+
+        // Add obstacles based on level number (more obstacles for higher levels)
+        random.setSeed(levelNumber); // Use level as seed for consistent generation
+        int obstacleCount = 5 + levelNumber;
+
+        for (int i = 0; i < obstacleCount; i++) {
+            // Make obstacles smaller to match their visual appearance
+            int width = random.nextInt(200) + 100; // Reduced from 300
+            int height = random.nextInt(20) + 20;  // Reduced from 30
+            int x = random.nextInt(levelWidth - width - 200) + 100;
+            int y = random.nextInt(levelHeight - height - 200) + 100;
+
+            // For the floating platform image, inset the collision box to match the visible part:
+            // 10% from the left and right, 20% from the top and bottom
+            obstacles.add(x, y, width, height, 0.1f, 0.2f, 0, ObstacleStore.TYPE_PLATFORM);
+        }
+
+        // Generated obstacles are all static, so index them once for every later query
+        if (obstacleGrid == null) {
+            obstacleGrid = new ObstacleGrid(obstacles, levelWidth, levelHeight);
+        } else {
+            obstacleGrid.rebuild();
+        }
+
+        // Candidate spots for the collectibles and the goal, spread evenly over the level inside the
+        // wall padding and already spaced apart from each other
+        int candidates = placementCandidates;
+        placementOffsetX = random.nextFloat() * PLACEMENT_SPACING;
+        placementOffsetY = random.nextFloat() * PLACEMENT_SPACING;
+        for (int i = 0; i < candidates; i++) {
+            clearance[i] = MAX_CLEARANCE;
+            clearanceExact[i] = false;
+            placementOrder[i] = i;
+        }
+        // Visit the candidates in a seeded random order
+        for (int i = candidates - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = placementOrder[i];
+            placementOrder[i] = placementOrder[j];
+            placementOrder[j] = swap;
+        }
+
+        // Set goal area with safe distance from obstacles. It's placed first because it needs the
+        // most room: on a crowded level without a safe spot it gets the clearest one, and if even
+        // that would touch a platform, a spot from a finer scan of the level (shrunk to fit if no
+        // spot has room for it).
+        int goalSize = 100;
+        int goalSafeDistance = 150;
+        float goalClearance = goalSafeDistance + goalSize / 2f;
+        int goal = -1;
+        for (int k = 0; k < candidates && goal < 0; k++) {
+            int candidate = placementOrder[k];
+            if (clearance(candidate, Math.nextDown(goalClearance)) >= goalClearance) {
+                goal = candidate;
+            }
+        }
+        if (goal < 0) {
+            goal = mostClearCandidate(candidates);
+        }
+        float goalHalfSize = goalSize / 2f;
+        float goalX;
+        float goalY;
+        if (clearance[goal] >= goalHalfSize * SQRT_2) {
+            take(goal);
+            goalX = candidateX(goal);
+            goalY = candidateY(goal);
+        } else {
+            float room = findClearSpot(goalHalfSize * SQRT_2, goal, false);
+            goalX = spotX;
+            goalY = spotY;
+            takeNear(goalX, goalY);
+            // Shrink the goal to fit rather than let it overlap a platform
+            goalHalfSize = Math.min(goalHalfSize, room / SQRT_2);
+        }
+
+        goalLeft = goalX - goalHalfSize;
+        goalTop = goalY - goalHalfSize;
+        goalRight = goalX + goalHalfSize;
+        goalBottom = goalY + goalHalfSize;
+
+        // Add collectibles with a safe distance from obstacles, and so at least PLACEMENT_SPACING from
+        // each other and the goal. If a crowded level hasn't enough safe spots, the remaining ones go
+        // where there's the most room, falling back to the finer scan like the goal.
+        int collectibleCount = 3;
+        int safeDistance = 120; // Minimum distance from obstacles
+        int placed = 0;
+        for (int k = 0; k < candidates && placed < collectibleCount; k++) {
+            int candidate = placementOrder[k];
+            if (clearance(candidate, Math.nextDown((float) safeDistance)) >= safeDistance) {
+                placeCollectible(candidate);
+                placed++;
+            }
+        }
+        for (; placed < collectibleCount; placed++) {
+            int candidate = mostClearCandidate(candidates);
+            float needed = CollectibleStore.RADIUS * SQRT_2;
+            if (candidate >= 0 && clearance[candidate] >= needed) {
+                placeCollectible(candidate);
+            } else {
+                findClearSpot(needed, candidate, true);
+                collectibles.add(spotX, spotY);
+                takeNear(spotX, spotY);
+            }
+        }
+        collectibles.index();
+        if (nearbyCollectibles.length < collectibles.size()) {
+            nearbyCollectibles = new int[collectibles.size()];
+        }
+    }
+
+    private void placeCollectible(int candidate) {
+        collectibles.add(candidateX(candidate), candidateY(candidate));
+        take(candidate);
+    }
+
+    // Make sure the fallback and later placements don't pick this candidate again
+    private void take(int candidate) {
+        clearance[candidate] = -1;
+        clearanceExact[candidate] = true;
+    }
+
+    // A spot off the candidate set was used: take the candidates too close to it
+    private void takeNear(float x, float y) {
+        for (int i = 0; i < placementCandidates; i++) {
+            float dx = candidateX(i) - x;
+            float dy = candidateY(i) - y;
+            if (dx * dx + dy * dy < PLACEMENT_SPACING * PLACEMENT_SPACING) {
+                take(i);
+            }
+        }
+    }
+
+    // Scan the level every FALLBACK_STEP for a spot with the needed clearance, at least
+    // PLACEMENT_SPACING from the collectibles (and the goal, if placed) so far. Stores the first one
+    // found in spotX/spotY and returns its clearance; if there's none, the clearest spot (or the
+    // clearest candidate, if no spot beats it) instead. Only crowded levels get here, and
+    // measurements stop as soon as they can't beat the best so far.
+    private float findClearSpot(float needed, int clearestCandidate, boolean goalPlaced) {
+        float goalX = (goalLeft + goalRight) / 2;
+        float goalY = (goalTop + goalBottom) / 2;
+        float best = -1;
+        if (clearestCandidate >= 0) {
+            best = clearance[clearestCandidate];
+            spotX = candidateX(clearestCandidate);
+            spotY = candidateY(clearestCandidate);
+        } else {
+            spotX = levelWidth / 2f;
+            spotY = levelHeight / 2f;
+        }
+        for (float y = PLACEMENT_PADDING; y <= levelHeight - PLACEMENT_PADDING; y += FALLBACK_STEP) {
+            // Clearance changes by at most the distance moved, so the last measurement along the row
+            // bounds the next spots and those that can't beat the best are skipped
+            float bound = MAX_CLEARANCE;
+            for (float x = PLACEMENT_PADDING; x <= levelWidth - PLACEMENT_PADDING; x += FALLBACK_STEP, bound += FALLBACK_STEP) {
+                if (bound <= best || goalPlaced && isNear(x, y, goalX, goalY) || isNearCollectible(x, y)) {
+                    continue;
+                }
+                float value = obstacleGrid.nearestDistance(x, y, MAX_CLEARANCE, best);
+                bound = value;
+                if (value > best) {
+                    best = value;
+                    spotX = x;
+                    spotY = y;
+                    if (best >= needed) {
+                        return best;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private boolean isNearCollectible(float x, float y) {
+        for (int i = 0; i < collectibles.size(); i++) {
+            if (isNear(x, y, collectibles.getX(i), collectibles.getY(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNear(float x, float y, float otherX, float otherY) {
+        float dx = x - otherX;
+        float dy = y - otherY;
+        return dx * dx + dy * dy < PLACEMENT_SPACING * PLACEMENT_SPACING;
+    }
+
+    // A candidate's obstacle clearance, measured only as far as needed: the result is exact if it's
+    // above floor, and otherwise just known to be no more than floor. Only candidates actually
+    // considered are measured, so an open level measures a handful rather than all of them, and on
+    // a crowded one most measurements stop at the first obstacle found.
+    private float clearance(int candidate, float floor) {
+        if (!clearanceExact[candidate] && clearance[candidate] > floor) {
+            float value = obstacleGrid.nearestDistance(candidateX(candidate), candidateY(candidate), MAX_CLEARANCE, floor);
+            clearance[candidate] = value;
+            clearanceExact[candidate] = value > floor;
+        }
+        return clearance[candidate];
+    }
+
+    private float candidateX(int candidate) {
+        return placementSampler.getX(candidate) + placementOffsetX;
+    }
+
+    private float candidateY(int candidate) {
+        return placementSampler.getY(candidate) + placementOffsetY;
+    }
+
+    // The untaken candidate furthest from any obstacle (the first in visiting order on a tie, -1 if
+    // all are taken). Candidates are only measured until they can't beat the best so far.
+    private int mostClearCandidate(int candidates) {
+        int best = -1;
+        float bestClearance = -1;
+        for (int k = 0; k < candidates; k++) {
+            int candidate = placementOrder[k];
+            float value = clearance(candidate, bestClearance);
+            if (value > bestClearance) {
+                best = candidate;
+                bestClearance = value;
+            }
+        }
+        return best;
+    }
+
+    public void checkCollisions(PlayerBody player) {
+        // Sweep this tick's move against the collision boxes so fast movement can't skip platforms
+        sweepMovement(player);
+
+        // Then check level boundaries
+        float playerRight = player.getX() + player.getWidth();
+        float playerBottom = player.getY() + player.getHeight();
+
+        // Left boundary
+        if (player.getX() < 0) {
+            player.setX(0);
+            player.bounceX();
+        }
+
+        // Right boundary
+        if (playerRight > levelWidth) {
+            player.setX(levelWidth - player.getWidth());
+            player.bounceX();
+        }
+
+        // Top boundary
+        if (player.getY() < 0) {
+            player.setY(0);
+            player.bounceY();
+        }
+
+        // Bottom boundary
+        if (playerBottom > levelHeight) {
+            player.setY(levelHeight - player.getHeight());
+            player.bounceY();
+        }
+
+        // Check obstacle collisions, visiting only obstacles in the grid cells the player touches
+        int nearby = obstacleGrid.query(player.getX(), player.getY(),
+                player.getX() + player.getWidth(), player.getY() + player.getHeight());
+        for (int k = 0; k < nearby; k++) {
+            int index = obstacleGrid.getResultIndex(k);
+            float left = player.getX();
+            float top = player.getY();
+            if (obstacles.computeContact(index, left, top, left + player.getWidth(), top + player.getHeight(), contact)) {
+                resolveCollision(contact, player);
+            }
+        }
+
+        // Collectibles are just pickups, not obstacles. Only those in the cells around the
+        // player are tested, by squared distance.
+        float centerX = player.getX() + (float) player.getWidth() /2;
+        float centerY = player.getY() + (float) player.getHeight() /2;
+        int candidates = collectibles.query(centerX - PICKUP_RADIUS, centerY - PICKUP_RADIUS,
+                centerX + PICKUP_RADIUS, centerY + PICKUP_RADIUS, nearbyCollectibles);
+        for (int k = 0; k < candidates; k++) {
+            int index = nearbyCollectibles[k];
+            float distX = collectibles.getX(index) - centerX;
+            float distY = collectibles.getY(index) - centerY;
+            if (distX * distX + distY * distY < PICKUP_RADIUS * PICKUP_RADIUS && collectibles.collect(index)) {
+                // Base points for collecting an item
+                int collectibleValue = 100;
+                score += collectibleValue;
+                if (listener != null) {
+                    listener.onCollectiblePicked(this);
+                }
+            }
+        }
+
+        // Check goal area and award completion bonus
+        float playerLeft = player.getX();
+        float playerTop = player.getY();
+        if (playerLeft < goalRight && goalLeft < playerLeft + player.getWidth()
+                && playerTop < goalBottom && goalTop < playerTop + player.getHeight()) {
+            // All collectibles must be collected to complete level
+            boolean allCollected = collectibles.getRemaining() == 0;
+
+            if (allCollected && !completed) {
+                completed = true;
+                // Award bonus points for completing the level
+                // Bonus for completing the level
+                int levelCompletionBonus = 500;
+                score += levelCompletionBonus;
+                // Apply level multiplier to make higher levels worth more
+                score += levelCompletionBonus * levelNumber;
+                if (listener != null) {
+                    listener.onLevelCompleted(this);
+                }
+            }
+        }
+    }
+
+    // Move the player from where it started this tick toward where Player.update put it,
+    // stopping at the first face hit and sliding along it for the rest of the move.
+    // A slow player only queries the few cells around it, so there's no substepping cost.
+    private void sweepMovement(PlayerBody player) {
+        float x = player.getPrevX();
+        float y = player.getPrevY();
+        float moveX = player.getX() - x;
+        float moveY = player.getY() - y;
+        int width = player.getWidth();
+        int height = player.getHeight();
+
+        for (int i = 0; i < MAX_SWEEP_CONTACTS && (moveX != 0 || moveY != 0); i++) {
+            // Broadphase over the box swept by the whole remaining move
+            int nearby = obstacleGrid.query(Math.min(x, x + moveX), Math.min(y, y + moveY),
+                    Math.max(x, x + moveX) + width, Math.max(y, y + moveY) + height);
+
+            // Find the earliest time of impact
+            int hit = -1;
+            float hitTime = 1;
+            float hitNormalX = 0;
+            float hitNormalY = 0;
+            for (int k = 0; k < nearby; k++) {
+                int index = obstacleGrid.getResultIndex(k);
+                if (obstacles.sweep(index, x, y, x + width, y + height, moveX, moveY, contact)
+                        && (hit < 0 || contact.time < hitTime)) {
+                    hit = index;
+                    hitTime = contact.time;
+                    hitNormalX = contact.normalX;
+                    hitNormalY = contact.normalY;
+                }
+            }
+            if (hit < 0) {
+                break;
+            }
+
+            // Advance to the contact, then snap flush to the face so the overlap pass doesn't resolve it again
+            x += moveX * hitTime;
+            y += moveY * hitTime;
+            float remaining = 1 - hitTime;
+            if (hitNormalX != 0) {
+                x = hitNormalX < 0 ? obstacles.getCollisionLeft(hit) - width : obstacles.getCollisionRight(hit);
+                moveX = 0;
+                moveY *= remaining;
+            } else {
+                y = hitNormalY < 0 ? obstacles.getCollisionTop(hit) - height : obstacles.getCollisionBottom(hit);
+                moveX *= remaining;
+                moveY = 0;
+            }
+
+            player.setX(x);
+            player.setY(y);
+            respondToContact(player, hitNormalX, hitNormalY);
+        }
+
+        player.setX(x + moveX);
+        player.setY(y + moveY);
+    }
+
+    // Bounce off a face with the given outward normal
+    private void respondToContact(PlayerBody player, float normalX, float normalY) {
+        if (normalX != 0) {
+            player.bounceX();
+        } else if (normalY < 0) {
+            // Landed on top of the obstacle: only bounce if moving downward
+            if (player.getVelocityY() > 0) {
+                player.bounceY();
+            } else {
+                player.setVelocityY(0); // Just stop if moving up
+            }
+        } else {
+            // Hit the underside of the obstacle
+            player.bounceY();
+        }
+    }
+
+    private void resolveCollision(Contact contact, PlayerBody player) {
+        // Push out along the minimum translation, then bounce off that face
+        player.setX(player.getX() + contact.mtvX);
+        player.setY(player.getY() + contact.mtvY);
+        respondToContact(player, Math.signum(contact.mtvX), Math.signum(contact.mtvY));
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,195 @@
+// LevelPipeline.java
+package com.example.gravityjumper.core;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+// Generates levels ahead of play so a level transition only has to swap in a finished Level.
+// After acquire(n) the pipeline keeps levels n+1 .. n+lookahead generating on the executor.
+// Generation is seeded by level number, so a prefetched level is identical to new Level(n, w, h).
+// Levels come from a LevelPool; hand finished ones back with retire() so they get reused.
+// Not thread-safe: acquire() and skipTo() are called from the simulation thread only.
+public class LevelPipeline {
+    // Runs generation on the calling thread; with this executor nothing is generated ahead
+    public static final Executor DIRECT = Runnable::run;
+
+    private final int levelWidth;
+    private final int levelHeight;
+    private final int lookahead;
+    private final Executor executor;
+    private final LevelPool levelPool;
+
+    // Levels submitted to the executor, by level number
+    private final TreeMap<Integer, Generation> pending = new TreeMap<>();
+
+    // Synchronous pipeline: every level is generated when it's acquired
+    public LevelPipeline(int levelWidth, int levelHeight) {
+        this(levelWidth, levelHeight, 0, DIRECT);
+    }
+
+    public LevelPipeline(int levelWidth, int levelHeight, int lookahead, Executor executor) {
+        if (lookahead < 0) {
+            throw new IllegalArgumentException("lookahead must be >= 0: " + lookahead);
+        }
+        this.levelWidth = levelWidth;
+        this.levelHeight = levelHeight;
+        this.lookahead = lookahead;
+        this.executor = executor;
+        this.levelPool = new LevelPool(levelWidth, levelHeight);
+    }
+
+    // Take level levelNumber, generating it here if it isn't ready, and start on the levels after it.
+    // Each call hands out a fresh Level, so acquiring the same number again restarts that level.
+    public Level acquire(int levelNumber) {
+        Generation generation = pending.remove(levelNumber);
+        skipTo(levelNumber + 1);
+
+        if (generation == null) {
+            return levelPool.obtain(levelNumber);
+        }
+        FutureTask<Level> task = generation.task;
+
+        // Still queued behind other levels: run it here rather than wait its turn.
+        // FutureTask runs at most once, so this is a no-op if a worker already started it.
+        task.run();
+        try {
+            return getUninterruptibly(task);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Level " + levelNumber + " generation failed", cause);
+        }
+    }
+
+    // Generate levels firstLevel .. firstLevel+lookahead-1 ahead, dropping any others still pending.
+    // Call before a known jump (level select, skip) so the target is ready when it's acquired.
+    public void skipTo(int firstLevel) {
+        int lastLevel = firstLevel + lookahead - 1;
+
+        Iterator<Map.Entry<Integer, Generation>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Generation> entry = it.next();
+            if (entry.getKey() < firstLevel || entry.getKey() > lastLevel) {
+                drop(entry.getValue());
+                it.remove();
+            }
+        }
+
+        for (int n = firstLevel; n <= lastLevel; n++) {
+            if (!pending.containsKey(n)) {
+                Generation generation = new Generation(n);
+                pending.put(n, generation);
+                executor.execute(generation.task);
+            }
+        }
+    }
+
+    // Cancel everything not yet generated
+    public void clear() {
+        for (Generation generation : pending.values()) {
+            drop(generation);
+        }
+        pending.clear();
+    }
+
+    // Cancel a level nobody will acquire. Whichever of this and the generation finishes second
+    // hands the Level back to the pool, so a level dropped mid-generation isn't lost.
+    private void drop(Generation generation) {
+        if (generation.drop()) {
+            // Not started (and now never will), or still generating and will recycle its own result
+            generation.task.cancel(false);
+            return;
+        }
+        try {
+            levelPool.recycle(getUninterruptibly(generation.task));
+        } catch (ExecutionException | CancellationException e) {
+            // Nothing to recycle
+        }
+    }
+
+    // The task's Level, waiting through interrupts (and restoring the flag after) so an interrupt
+    // can't make the caller abandon a level that's done or nearly done and leak it from the pool
+    private static Level getUninterruptibly(FutureTask<Level> task) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // One level generating ahead. FutureTask.cancel() can't stop a generation that has started,
+    // and a cancelled task throws its result away, so the generation checks for a drop itself.
+    private final class Generation implements Callable<Level> {
+        private final int levelNumber;
+        private final FutureTask<Level> task = new FutureTask<>(this);
+        // Guarded by this
+        private boolean dropped = false;
+        private boolean finished = false;
+
+        Generation(int levelNumber) {
+            this.levelNumber = levelNumber;
+        }
+
+        @Override
+        public Level call() {
+            Level level = levelPool.obtain(levelNumber);
+            synchronized (this) {
+                if (dropped) {
+                    levelPool.recycle(level);
+                    return null;
+                }
+                finished = true;
+            }
+            return level;
+        }
+
+        // Mark dropped; true if call() hasn't finished, so it (if it runs at all) recycles the level
+        synchronized boolean drop() {
+            dropped = true;
+            return !finished;
+        }
+    }
+
+    // The simulation has left level at tick; see LevelPool.retire()
+    public void retire(Level level, long tick) {
+        levelPool.retire(level, tick);
+    }
+
+    public LevelPool getLevelPool() {
+        return levelPool;
+    }
+
+    // Number of levels generating or ready ahead of play
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public int getLookahead() {
+        return lookahead;
+    }
+
+    public int getLevelWidth() {
+        return levelWidth;
+    }
+
+    public int getLevelHeight() {
+        return levelHeight;
+    }
+}
@@ -0,0 +1,104 @@
+// LevelPool.java
+package com.example.gravityjumper.core;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+// Levels the simulation has finished with, kept to be regenerated in place by obtain().
+// A session cycles through a handful of Level instances (the current one, the pipeline's lookahead
+// and any still on screen) instead of allocating a Level, its obstacles and collectibles per level.
+// A left level may still be drawn by a render thread: with deferred recycling on, retire() holds it
+// until release() reports the renderer has drawn a tick after the one it was retired at.
+// Thread-safe: levels are obtained on the generator thread and retired on the simulation thread.
+public class LevelPool {
+    private final int levelWidth;
+    private final int levelHeight;
+
+    private final ArrayDeque<Level> free = new ArrayDeque<>();
+
+    // Retired levels waiting for the renderer, in retire order (ticks never decrease)
+    private Level[] retired = new Level[4];
+    private long[] retiredTicks = new long[4];
+    private int retiredCount = 0;
+    private boolean deferredRecycling = false;
+
+    private int created = 0;
+
+    public LevelPool(int levelWidth, int levelHeight) {
+        this.levelWidth = levelWidth;
+        this.levelHeight = levelHeight;
+    }
+
+    // A level generated as levelNumber: a free one reset in place, or a new one if none is free
+    public Level obtain(int levelNumber) {
+        Level level;
+        synchronized (this) {
+            level = free.poll();
+            if (level == null) {
+                created++;
+            }
+        }
+        // Generate outside the lock; it's the expensive part
+        if (level == null) {
+            return new Level(levelNumber, levelWidth, levelHeight);
+        }
+        level.reset(levelNumber);
+        return level;
+    }
+
+    // Take back a level nobody reads any more
+    public synchronized void recycle(Level level) {
+        free.add(level);
+    }
+
+    // The simulation left level at tick. Recycled now, or once release() passes tick if deferred.
+    public synchronized void retire(Level level, long tick) {
+        if (!deferredRecycling) {
+            free.add(level);
+            return;
+        }
+        if (retiredCount == retired.length) {
+            retired = Arrays.copyOf(retired, retiredCount * 2);
+            retiredTicks = Arrays.copyOf(retiredTicks, retiredCount * 2);
+        }
+        retired[retiredCount] = level;
+        retiredTicks[retiredCount] = tick;
+        retiredCount++;
+    }
+
+    // The renderer is drawing tick drawnTick; recycle levels retired before it
+    public synchronized void release(long drawnTick) {
+        int released = 0;
+        while (released < retiredCount && retiredTicks[released] < drawnTick) {
+            free.add(retired[released]);
+            released++;
+        }
+        if (released > 0) {
+            System.arraycopy(retired, released, retired, 0, retiredCount - released);
+            System.arraycopy(retiredTicks, released, retiredTicks, 0, retiredCount - released);
+            Arrays.fill(retired, retiredCount - released, retiredCount, null);
+            retiredCount -= released;
+        }
+    }
+
+    // Hold retired levels until release(); for when another thread draws the levels
+    public synchronized void setDeferredRecycling(boolean deferred) {
+        deferredRecycling = deferred;
+        if (!deferred) {
+            release(Long.MAX_VALUE);
+        }
+    }
+
+    public synchronized int getFreeCount() {
+        return free.size();
+    }
+
+    public synchronized int getRetiredCount() {
+        return retiredCount;
+    }
+
+    // Level instances this pool has had to create
+    public synchronized int getCreatedCount() {
+        return created;
+    }
+}
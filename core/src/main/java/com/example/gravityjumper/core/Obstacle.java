@@ -0,0 +1,72 @@
+// Obstacle.java
+package com.example.gravityjumper.core;
+
+// Flyweight view of one obstacle in an ObstacleStore. The data lives in the store's arrays; this
+// object only remembers the index, and is pooled by the store so it is reused across levels.
+// Hot loops should use the store by index instead.
+public class Obstacle {
+    private final ObstacleStore store;
+    private final int index;
+
+    Obstacle(ObstacleStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    // Index of this obstacle in its level's ObstacleStore
+    public int getIndex() {
+        return index;
+    }
+
+    public void update() {
+        // Move the obstacle (typically from right to left in a side-scroller)
+        store.move(index);
+    }
+
+    // Collision detection
+
+    public boolean isColliding(float playerX, float playerY, int playerWidth, int playerHeight) {
+        return overlaps(playerX, playerY, playerX + playerWidth, playerY + playerHeight);
+    }
+
+    // Collision box edges (inset from the drawn bounds)
+    public float getCollisionLeft() { return store.getCollisionLeft(index); }
+    public float getCollisionTop() { return store.getCollisionTop(index); }
+    public float getCollisionRight() { return store.getCollisionRight(index); }
+    public float getCollisionBottom() { return store.getCollisionBottom(index); }
+
+    // Does the box [left, right) x [top, bottom) overlap the collision box?
+    public boolean overlaps(float left, float top, float right, float bottom) {
+        return store.overlaps(index, left, top, right, bottom);
+    }
+
+    // See ObstacleStore.computeContact
+    public boolean computeContact(float left, float top, float right, float bottom, Contact out) {
+        return store.computeContact(index, left, top, right, bottom, out);
+    }
+
+    // See ObstacleStore.sweep
+    public boolean sweep(float left, float top, float right, float bottom,
+                         float dx, float dy, Contact out) {
+        return store.sweep(index, left, top, right, bottom, dx, dy, out);
+    }
+
+    // Check if obstacle is off screen and can be recycled
+    public boolean isOffScreen() {
+        return getX() + getWidth() < 0;
+    }
+
+    // Getters and setters
+    public float getX() { return store.getX(index); }
+    public void setX(float x) { store.setPosition(index, x, getY()); }
+
+    public float getY() { return store.getY(index); }
+    public void setY(float y) { store.setPosition(index, getX(), y); }
+
+    public float getSpeed() { return store.getSpeed(index); }
+    public void setSpeed(float speed) { store.setSpeed(index, speed); }
+
+    public int getWidth() { return store.getWidth(index); }
+    public int getHeight() { return store.getHeight(index); }
+    public byte getType() { return store.getType(index); }
+}
@@ -0,0 +1,268 @@
+// ObstacleGrid.java
+package com.example.gravityjumper.core;
+
+// Uniform grid over a level's static obstacles, built once per generated layout.
+// Each cell lists the obstacles whose drawn bounds touch it, so a query only visits
+// obstacles near the queried box instead of scanning the whole level. Moving obstacles (the store's
+// moving list) would leave their cells, so they're kept out and every query checks them directly.
+// The grid itself is read-only once built. query() uses the grid's own scratch state and belongs to
+// the simulation thread; other threads (the renderer) query through their own Query.
+public class ObstacleGrid {
+    // Roughly the player's size, so a player-sized query touches at most a few cells
+    public static final int CELL_SIZE = 200;
+
+    private final ObstacleStore obstacles;
+    private final int columns;
+    private final int rows;
+
+    // Cell c holds obstacle indices cellItems[cellStart[c]] .. cellItems[cellStart[c + 1] - 1]
+    private final int[] cellStart;
+    private int[] cellItems = new int[0];
+    // Per-cell fill cursor for the second build pass
+    private final int[] fill;
+    // Bumped by every rebuild(), so a Query can tell its scratch state is for an older build
+    private int version = 0;
+
+    // Scratch state for query(), owned by the simulation thread
+    private final Query query = new Query();
+
+    public ObstacleGrid(ObstacleStore obstacles, int levelWidth, int levelHeight) {
+        this.obstacles = obstacles;
+        columns = Math.max(1, (levelWidth + CELL_SIZE - 1) / CELL_SIZE);
+        rows = Math.max(1, (levelHeight + CELL_SIZE - 1) / CELL_SIZE);
+        cellStart = new int[columns * rows + 1];
+        fill = new int[columns * rows];
+        rebuild();
+    }
+
+    // Re-index the store in place after it was refilled (a pooled Level reset for a new layout).
+    // Reuses the arrays, growing cellItems only when the new layout needs more entries.
+    public void rebuild() {
+        version++;
+        int obstacleCount = obstacles.size();
+
+        // First pass: count obstacles per cell
+        java.util.Arrays.fill(cellStart, 0);
+        for (int i = 0; i < obstacleCount; i++) {
+            if (obstacles.isMoving(i)) {
+                continue;
+            }
+            int col0 = column(obstacles.getX(i));
+            int col1 = column(obstacles.getX(i) + obstacles.getWidth(i));
+            int row0 = row(obstacles.getY(i));
+            int row1 = row(obstacles.getY(i) + obstacles.getHeight(i));
+            for (int row = row0; row <= row1; row++) {
+                for (int col = col0; col <= col1; col++) {
+                    cellStart[row * columns + col + 1]++;
+                }
+            }
+        }
+
+        // Prefix sum turns counts into start offsets
+        for (int c = 0; c < columns * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+
+        // Second pass: fill cells in obstacle order
+        if (cellItems.length < cellStart[columns * rows]) {
+            cellItems = new int[cellStart[columns * rows]];
+        }
+        java.util.Arrays.fill(fill, 0);
+        for (int i = 0; i < obstacleCount; i++) {
+            if (obstacles.isMoving(i)) {
+                continue;
+            }
+            int col0 = column(obstacles.getX(i));
+            int col1 = column(obstacles.getX(i) + obstacles.getWidth(i));
+            int row0 = row(obstacles.getY(i));
+            int row1 = row(obstacles.getY(i) + obstacles.getHeight(i));
+            for (int row = row0; row <= row1; row++) {
+                for (int col = col0; col <= col1; col++) {
+                    int cell = row * columns + col;
+                    cellItems[cellStart[cell] + fill[cell]++] = i;
+                }
+            }
+        }
+
+        // Size query()'s scratch state for this build now, so the level's first collision pass
+        // doesn't allocate
+        query.begin(this);
+    }
+
+    // Collect the obstacles whose cells overlap the given box. Returns the number found;
+    // read them with getResult(). Results are in obstacle order and stay valid until the next query.
+    public int query(float left, float top, float right, float bottom) {
+        return query(left, top, right, bottom, query);
+    }
+
+    public Obstacle getResult(int i) {
+        return query.getResult(i);
+    }
+
+    public int getResultIndex(int i) {
+        return query.getResultIndex(i);
+    }
+
+    // As query(), with results going to the caller's own scratch state so a thread other than the
+    // simulation's can query the same grid concurrently
+    public int query(float left, float top, float right, float bottom, Query out) {
+        out.begin(this);
+
+        int col0 = column(left);
+        int col1 = column(right);
+        int row0 = row(top);
+        int row1 = row(bottom);
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * columns + col;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    out.visit(cellItems[k]);
+                }
+            }
+        }
+        // Moving obstacles by where they are now, as loosely as a cell match (touching counts)
+        for (int k = 0, moving = obstacles.getMovingCount(); k < moving; k++) {
+            int index = obstacles.getMoving(k);
+            float x = obstacles.getX(index);
+            float y = obstacles.getY(index);
+            if (x <= right && left <= x + obstacles.getWidth(index)
+                    && y <= bottom && top <= y + obstacles.getHeight(index)) {
+                out.visit(index);
+            }
+        }
+        out.collect();
+        return out.resultCount;
+    }
+
+    // Distance from (x, y) to the nearest obstacle's drawn bounds, or maxDistance if none is closer.
+    // Returns as soon as the answer is known to be no more than floor (with a value at most floor).
+    // Cells are walked directly with no de-duplication (a repeat can't change a minimum), so this
+    // needs no scratch state and any thread can call it.
+    public float nearestDistance(float x, float y, float maxDistance, float floor) {
+        // Moving obstacles aren't in the cells; there are few, so check them all
+        float nearest = maxDistance;
+        for (int k = 0, moving = obstacles.getMovingCount(); k < moving; k++) {
+            nearest = nearestTo(obstacles.getMoving(k), x, y, nearest);
+        }
+        // Then the point's own cell: it usually holds the nearest obstacle, so the early return
+        // or a tight bound comes quickly
+        int home = row(y) * columns + column(x);
+        nearest = nearestInCell(home, x, y, nearest);
+        if (nearest <= floor) {
+            return nearest;
+        }
+        int col0 = column(x - nearest);
+        int col1 = column(x + nearest);
+        int row0 = row(y - nearest);
+        int row1 = row(y + nearest);
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * columns + col;
+                if (cell != home) {
+                    nearest = nearestInCell(cell, x, y, nearest);
+                    if (nearest <= floor) {
+                        return nearest;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private float nearestInCell(int cell, float x, float y, float nearest) {
+        for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+            nearest = nearestTo(cellItems[k], x, y, nearest);
+        }
+        return nearest;
+    }
+
+    // The smaller of nearest and (x, y)'s distance to obstacle index's drawn bounds
+    private float nearestTo(int index, float x, float y, float nearest) {
+        float left = obstacles.getX(index);
+        float top = obstacles.getY(index);
+        float dx = Math.max(0, Math.max(left - x, x - (left + obstacles.getWidth(index))));
+        float dy = Math.max(0, Math.max(top - y, y - (top + obstacles.getHeight(index))));
+        float squared = dx * dx + dy * dy;
+        if (squared < nearest * nearest) {
+            return (float) Math.sqrt(squared);
+        }
+        return nearest;
+    }
+
+    private int column(float x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / CELL_SIZE)));
+    }
+
+    private int row(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / CELL_SIZE)));
+    }
+
+    // Query scratch state: obstacles spanning several cells are reported once per query.
+    // One per querying thread; it follows whichever grid (and build of it) it was last used with.
+    public static final class Query {
+        private ObstacleGrid grid;
+        private int gridVersion;
+        // One bit per obstacle hit by the query in progress; all clear between queries
+        private long[] hits = new long[0];
+        private int minHit;
+        private int maxHit;
+        private int[] results = new int[0];
+        private int resultCount = 0;
+
+        private void begin(ObstacleGrid target) {
+            if (grid != target || gridVersion != target.version) {
+                grid = target;
+                gridVersion = target.version;
+                int obstacleCount = target.obstacles.size();
+                if (results.length < obstacleCount) {
+                    hits = new long[(obstacleCount + 63) >>> 6];
+                    results = new int[obstacleCount];
+                } else {
+                    java.util.Arrays.fill(hits, 0);
+                }
+            }
+
+            resultCount = 0;
+            minHit = Integer.MAX_VALUE;
+            maxHit = -1;
+        }
+
+        private void visit(int index) {
+            long bit = 1L << index;
+            int word = index >>> 6;
+            if ((hits[word] & bit) == 0) {
+                hits[word] |= bit;
+                minHit = Math.min(minHit, index);
+                maxHit = Math.max(maxHit, index);
+            }
+        }
+
+        // Read the hits out in obstacle order, so resolution order matches a linear scan, clearing
+        // them for the next query. Only the words between the lowest and highest hit are read.
+        private void collect() {
+            if (maxHit < 0) {
+                return;
+            }
+            for (int word = minHit >>> 6, last = maxHit >>> 6; word <= last; word++) {
+                long bits = hits[word];
+                hits[word] = 0;
+                while (bits != 0) {
+                    results[resultCount++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        public int getCount() {
+            return resultCount;
+        }
+
+        public Obstacle getResult(int i) {
+            return grid.obstacles.getView(results[i]);
+        }
+
+        public int getResultIndex(int i) {
+            return results[i];
+        }
+    }
+}
@@ -0,0 +1,264 @@
+// ObstacleStore.java
+package com.example.gravityjumper.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// A level's obstacles as parallel primitive arrays, indexed by obstacle number.
+// Collision and drawing loops read the arrays directly by index (from ObstacleGrid results), so
+// the hot paths are flat scans with no virtual calls or per-obstacle objects to chase.
+// The collision box is stored alongside the bounds and kept in sync whenever an obstacle moves.
+// Obstacle objects are flyweight views onto one index, for code that wants an object per obstacle;
+// they're pooled with the arrays, which grow to the largest level held and are reused after clear().
+public class ObstacleStore {
+    // Obstacle kinds, for drawing and debugging; collision treats them all alike
+    public static final byte TYPE_WALL = 0;
+    public static final byte TYPE_PLATFORM = 1;
+
+    private int count = 0;
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private int[] width = new int[0];
+    private int[] height = new int[0];
+    // Fraction of the width/height trimmed from each side to get the collision box
+    private float[] insetX = new float[0];
+    private float[] insetY = new float[0];
+    private float[] speed = new float[0];
+    private byte[] type = new byte[0];
+
+    // Collision box edges (inset from the drawn bounds)
+    private float[] boxLeft = new float[0];
+    private float[] boxTop = new float[0];
+    private float[] boxRight = new float[0];
+    private float[] boxBottom = new float[0];
+
+    // Indices of obstacles that have had a non-zero speed since they were added; the only ones
+    // updateMoving() touches, and the ones ObstacleGrid leaves out of its cells and checks directly.
+    // An obstacle stays listed if it stops, so the grid never loses track of one that has moved.
+    private int[] moving = new int[0];
+    private int movingCount = 0;
+    private boolean[] listedMoving = new boolean[0];
+
+    // Flyweight views: viewPool[i] always views index i; views lists the first count of them
+    private final List<Obstacle> viewPool = new ArrayList<>();
+    private final List<Obstacle> views = new ArrayList<>();
+    private final List<Obstacle> readOnlyViews = Collections.unmodifiableList(views);
+
+    // Remove all obstacles, keeping the arrays and views for reuse
+    public void clear() {
+        count = 0;
+        movingCount = 0;
+        views.clear();
+    }
+
+    // Append an obstacle and return its index
+    public int add(float x, float y, int width, int height, float insetX, float insetY, float speed, byte type) {
+        if (count == this.x.length) {
+            grow(Math.max(16, count * 2));
+        }
+        int i = count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.insetX[i] = insetX;
+        this.insetY[i] = insetY;
+        this.speed[i] = speed;
+        this.type[i] = type;
+        updateBox(i);
+        listedMoving[i] = speed != 0;
+        if (speed != 0) {
+            moving[movingCount++] = i;
+        }
+
+        if (i == viewPool.size()) {
+            viewPool.add(new Obstacle(this, i));
+        }
+        views.add(viewPool.get(i));
+        return i;
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        insetX = Arrays.copyOf(insetX, capacity);
+        insetY = Arrays.copyOf(insetY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        type = Arrays.copyOf(type, capacity);
+        boxLeft = Arrays.copyOf(boxLeft, capacity);
+        boxTop = Arrays.copyOf(boxTop, capacity);
+        boxRight = Arrays.copyOf(boxRight, capacity);
+        boxBottom = Arrays.copyOf(boxBottom, capacity);
+        moving = Arrays.copyOf(moving, capacity);
+        listedMoving = Arrays.copyOf(listedMoving, capacity);
+    }
+
+    private void updateBox(int i) {
+        boxLeft[i] = x[i] + width[i] * insetX[i];
+        boxTop[i] = y[i] + height[i] * insetY[i];
+        boxRight[i] = x[i] + width[i] * (1 - insetX[i]);
+        boxBottom[i] = y[i] + height[i] * (1 - insetY[i]);
+    }
+
+    // Advance the moving obstacles one tick (typically right to left in a side-scroller).
+    // Static obstacles, which is all of them in generated levels, cost nothing here.
+    public void updateMoving() {
+        for (int k = 0; k < movingCount; k++) {
+            move(moving[k]);
+        }
+    }
+
+    void move(int i) {
+        x[i] -= speed[i];
+        updateBox(i);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    // Read-only list of flyweight views, one per obstacle in index order
+    public List<Obstacle> getViews() {
+        return readOnlyViews;
+    }
+
+    public Obstacle getView(int i) {
+        return viewPool.get(i);
+    }
+
+    public float getX(int i) { return x[i]; }
+    public float getY(int i) { return y[i]; }
+    public int getWidth(int i) { return width[i]; }
+    public int getHeight(int i) { return height[i]; }
+    public float getSpeed(int i) { return speed[i]; }
+    public byte getType(int i) { return type[i]; }
+
+    public float getCollisionLeft(int i) { return boxLeft[i]; }
+    public float getCollisionTop(int i) { return boxTop[i]; }
+    public float getCollisionRight(int i) { return boxRight[i]; }
+    public float getCollisionBottom(int i) { return boxBottom[i]; }
+
+    public void setPosition(int i, float x, float y) {
+        this.x[i] = x;
+        this.y[i] = y;
+        updateBox(i);
+    }
+
+    public void setSpeed(int i, float speed) {
+        this.speed[i] = speed;
+        if (speed != 0 && !listedMoving[i]) {
+            listedMoving[i] = true;
+            moving[movingCount++] = i;
+        }
+    }
+
+    // The obstacles on the moving list (see moving above), read by index k < getMovingCount()
+    public int getMovingCount() {
+        return movingCount;
+    }
+
+    public int getMoving(int k) {
+        return moving[k];
+    }
+
+    public boolean isMoving(int i) {
+        return listedMoving[i];
+    }
+
+    // Does the box [left, right) x [top, bottom) overlap obstacle i's collision box?
+    public boolean overlaps(int i, float left, float top, float right, float bottom) {
+        return left < boxRight[i] && boxLeft[i] < right && top < boxBottom[i] && boxTop[i] < bottom;
+    }
+
+    // If the box overlaps obstacle i's collision box, store the minimum translation that separates
+    // it in out and return true. Nothing is allocated.
+    public boolean computeContact(int i, float left, float top, float right, float bottom, Contact out) {
+        float boxLeft = this.boxLeft[i];
+        float boxTop = this.boxTop[i];
+        float boxRight = this.boxRight[i];
+        float boxBottom = this.boxBottom[i];
+
+        if (!(left < boxRight && boxLeft < right && top < boxBottom && boxTop < bottom)) {
+            return false;
+        }
+
+        // Calculate the overlap in each direction
+        float overlapLeft = right - boxLeft;
+        float overlapRight = boxRight - left;
+        float overlapTop = bottom - boxTop;
+        float overlapBottom = boxBottom - top;
+
+        float pushX = overlapLeft < overlapRight ? -overlapLeft : overlapRight;
+        float pushY = overlapTop < overlapBottom ? -overlapTop : overlapBottom;
+
+        // Push out along the axis with the smallest overlap
+        if (Math.abs(pushX) < Math.abs(pushY)) {
+            out.set(pushX, 0);
+        } else {
+            out.set(0, pushY);
+        }
+        return true;
+    }
+
+    // Sweep a box moving by (dx, dy) against obstacle i's collision box. If it first touches a face
+    // during the move, store the time of impact (0..1) and the face normal in out and return true.
+    // Boxes already overlapping at the start are left to computeContact.
+    public boolean sweep(int i, float left, float top, float right, float bottom,
+                         float dx, float dy, Contact out) {
+        float boxLeft = this.boxLeft[i];
+        float boxTop = this.boxTop[i];
+        float boxRight = this.boxRight[i];
+        float boxBottom = this.boxBottom[i];
+
+        // Times at which the moving box starts and stops overlapping on each axis
+        float entryX, exitX;
+        if (dx > 0) {
+            entryX = (boxLeft - right) / dx;
+            exitX = (boxRight - left) / dx;
+        } else if (dx < 0) {
+            entryX = (boxRight - left) / dx;
+            exitX = (boxLeft - right) / dx;
+        } else if (right <= boxLeft || left >= boxRight) {
+            return false;
+        } else {
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        }
+
+        float entryY, exitY;
+        if (dy > 0) {
+            entryY = (boxTop - bottom) / dy;
+            exitY = (boxBottom - top) / dy;
+        } else if (dy < 0) {
+            entryY = (boxBottom - top) / dy;
+            exitY = (boxTop - bottom) / dy;
+        } else if (bottom <= boxTop || top >= boxBottom) {
+            return false;
+        } else {
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        }
+
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+
+        // No overlap during the move, only grazing an edge, or already overlapping at the start
+        if (entry >= exit || entry < 0 || entry > 1) {
+            return false;
+        }
+
+        out.time = entry;
+        if (entryX > entryY) {
+            out.normalX = dx > 0 ? -1 : 1;
+            out.normalY = 0;
+        } else {
+            out.normalX = 0;
+            out.normalY = dy > 0 ? -1 : 1;
+        }
+        return true;
+    }
+}
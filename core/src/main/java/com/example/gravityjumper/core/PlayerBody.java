@@ -0,0 +1,178 @@
+// PlayerBody.java
+package com.example.gravityjumper.core;
+
+// Player physics and squash/jiggle animation state, independent of how the player is drawn
+public class PlayerBody {
+    private float x, y;
+    private float prevX, prevY; // Position at the start of the current tick, for render interpolation
+    private float velocityX, velocityY;
+    private int width = 150;  // Matches the scaled player sprite
+    private int height = 150;
+
+    // Squash and stretch variables
+    private float scaleX = 1.0f;
+    private float scaleY = 1.0f;
+    private float targetScaleX = 1.0f;
+    private float targetScaleY = 1.0f;
+    private float jiggleTimer = 0;
+    private boolean isJiggling = false;
+    private float jiggleIntensity = 0;
+    private float rotation = 0;
+
+    // Physics tuning
+    private static final float GRAVITY_FORCE = 0.5f;
+    private static final float DRAG = 0.95f;
+
+    // Animation speeds
+    private static final float SQUASH_RECOVERY_SPEED = 0.1f;
+    private static final float JIGGLE_DECAY = 0.9f;
+
+    public PlayerBody() {
+        x = 100;
+        y = 100;
+        prevX = x;
+        prevY = y;
+    }
+
+    public void update(GravityDirection gravity) {
+        // Remember where this tick started so rendering can interpolate
+        prevX = x;
+        prevY = y;
+
+        // Apply gravity based on current direction
+        switch (gravity) {
+            case DOWN:
+                velocityY += GRAVITY_FORCE;
+                break;
+            case UP:
+                velocityY -= GRAVITY_FORCE;
+                break;
+            case LEFT:
+                velocityX -= GRAVITY_FORCE;
+                break;
+            case RIGHT:
+                velocityX += GRAVITY_FORCE;
+                break;
+        }
+
+        // Apply velocity
+        x += velocityX;
+        y += velocityY;
+
+        // Apply more drag for better control
+        velocityX *= DRAG;
+        velocityY *= DRAG;
+
+        // No velocity clamp: Level.checkCollisions sweeps the move from prevX/prevY,
+        // so fast movement can't tunnel through thin platforms
+
+        // Update blob animation effects
+        updateBlobAnimation(gravity);
+    }
+
+    private void updateBlobAnimation(GravityDirection gravity) {
+        // Calculate stretch factor based on movement
+        if (!isJiggling) {
+            switch (gravity) {
+                case DOWN:
+                case UP:
+                    // Vertical movement - stretch vertically
+                    targetScaleX = 1.0f - Math.min(0.2f, Math.abs(velocityY) * 0.02f);
+                    targetScaleY = 1.0f + Math.min(0.3f, Math.abs(velocityY) * 0.03f);
+                    break;
+                case LEFT:
+                case RIGHT:
+                    // Horizontal movement - stretch horizontally
+                    targetScaleX = 1.0f + Math.min(0.3f, Math.abs(velocityX) * 0.03f);
+                    targetScaleY = 1.0f - Math.min(0.2f, Math.abs(velocityX) * 0.02f);
+                    break;
+            }
+        }
+
+        // Smoothly animate toward target scale
+        scaleX += (targetScaleX - scaleX) * SQUASH_RECOVERY_SPEED;
+        scaleY += (targetScaleY - scaleY) * SQUASH_RECOVERY_SPEED;
+
+        // Handle jiggle animation
+        if (isJiggling) {
+            jiggleTimer += 0.2f;
+
+            // Apply sine-wave based rotation for jiggle effect
+            rotation = (float) Math.sin(jiggleTimer) * jiggleIntensity;
+
+            // Decay jiggle intensity
+            jiggleIntensity *= JIGGLE_DECAY;
+
+            // Stop jiggling when intensity is very low
+            if (jiggleIntensity < 0.1f) {
+                isJiggling = false;
+                rotation = 0;
+            }
+        }
+    }
+
+    // Collision response methods with jiggle effect - less bouncy
+    public void bounceX() {
+        velocityX = -velocityX * 0.5f; // Less bouncy (was 0.6f)
+        startJiggle();
+
+        // Squash horizontally on impact
+        targetScaleX = 0.7f;
+        targetScaleY = 1.3f;
+    }
+
+    public void bounceY() {
+        velocityY = -velocityY * 0.3f; // Even less bouncy (was 0.6f)
+        startJiggle();
+
+        // Squash vertically on impact
+        targetScaleX = 1.3f;
+        targetScaleY = 0.7f;
+    }
+
+    private void startJiggle() {
+        isJiggling = true;
+        jiggleTimer = 0;
+        jiggleIntensity = 15.0f; // Starting rotation amount in degrees
+    }
+
+    // Getters and setters for position
+    public float getX() { return x; }
+    public float getY() { return y; }
+    public void setX(float x) { this.x = x; }
+    public void setY(float y) { this.y = y; }
+
+    // Position at the start of the current tick
+    public float getPrevX() { return prevX; }
+    public float getPrevY() { return prevY; }
+
+    // Interpolated position between the previous and current tick
+    public float getRenderX(float alpha) { return prevX + (x - prevX) * alpha; }
+    public float getRenderY(float alpha) { return prevY + (y - prevY) * alpha; }
+
+    // Call after teleporting the player so the next frame doesn't interpolate across the jump
+    public void resetInterpolation() {
+        prevX = x;
+        prevY = y;
+    }
+
+    // Getters and setters for velocity
+    public float getVelocityX() { return velocityX; }
+    public float getVelocityY() { return velocityY; }
+    public void setVelocityX(float velocityX) { this.velocityX = velocityX; }
+    public void setVelocityY(float velocityY) { this.velocityY = velocityY; }
+
+    // Getters and setter for dimensions
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public void setSize(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    // Squash/jiggle animation state for rendering
+    public float getScaleX() { return scaleX; }
+    public float getScaleY() { return scaleY; }
+    public float getRotation() { return rotation; }
+    public boolean isJiggling() { return isJiggling; }
+}
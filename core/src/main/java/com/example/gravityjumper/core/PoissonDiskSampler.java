@@ -0,0 +1,145 @@
+// PoissonDiskSampler.java
+package com.example.gravityjumper.core;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Blue-noise points over a rectangle by Bridson's algorithm: every point is at least minDistance
+// from every other, and the rectangle is filled until no more fit. A background grid with one
+// point per cell keeps each candidate check to a few neighbouring cells, so the cost depends only
+// on the area sampled. Candidates sit just outside minDistance at evenly spaced angles from a
+// random start (Roberts' variant), which packs tighter than random annulus candidates and needs one
+// random number per attempt instead of several per candidate. The directions come from a table
+// built with StrictMath, so the same Random seed gives bit-identical points on any JVM or device.
+// The arrays are reused between calls.
+public class PoissonDiskSampler {
+    // Candidates tried around a point before it's retired from the active list
+    private static final int CANDIDATES = 12;
+    // Directions a candidate can take; a multiple of CANDIDATES
+    private static final int DIRECTIONS = CANDIDATES * 30;
+    private static final float[] DIRECTION_X = new float[DIRECTIONS];
+    private static final float[] DIRECTION_Y = new float[DIRECTIONS];
+    // Candidates this far past minDistance, so rounding can't put them too close
+    private static final float CANDIDATE_MARGIN = 1.0001f;
+
+    static {
+        for (int i = 0; i < DIRECTIONS; i++) {
+            double angle = 2 * Math.PI * i / DIRECTIONS;
+            DIRECTION_X[i] = (float) StrictMath.cos(angle);
+            DIRECTION_Y[i] = (float) StrictMath.sin(angle);
+        }
+    }
+
+    private final float minDistance;
+    private final float cellSize;
+
+    private int count = 0;
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+
+    private int columns;
+    private int rows;
+    private float left;
+    private float top;
+    // Index + 1 of the point in each cell, or 0
+    private int[] grid = new int[0];
+    // Points that may still have room around them
+    private int[] active = new int[0];
+
+    public PoissonDiskSampler(float minDistance) {
+        this.minDistance = minDistance;
+        // Small enough that a cell's diagonal is minDistance, so no cell can hold two points
+        this.cellSize = minDistance / (float) Math.sqrt(2);
+    }
+
+    // Fill [left, right) x [top, bottom) with points drawn from random; returns how many
+    public int sample(float left, float top, float right, float bottom, Random random) {
+        this.left = left;
+        this.top = top;
+        float width = right - left;
+        float height = bottom - top;
+        columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        if (grid.length < columns * rows) {
+            grid = new int[columns * rows];
+        }
+        Arrays.fill(grid, 0, columns * rows, 0);
+        count = 0;
+
+        int activeCount = 0;
+        add(left + random.nextFloat() * width, top + random.nextFloat() * height);
+        active[activeCount++] = 0;
+
+        float radius = minDistance * CANDIDATE_MARGIN;
+        while (activeCount > 0) {
+            int slot = random.nextInt(activeCount);
+            int point = active[slot];
+            int direction = random.nextInt(DIRECTIONS);
+            boolean placed = false;
+            for (int k = 0; k < CANDIDATES; k++, direction += DIRECTIONS / CANDIDATES) {
+                float cx = x[point] + radius * DIRECTION_X[direction % DIRECTIONS];
+                float cy = y[point] + radius * DIRECTION_Y[direction % DIRECTIONS];
+                if (cx < left || cx >= right || cy < top || cy >= bottom || !isClear(cx, cy)) {
+                    continue;
+                }
+                add(cx, cy);
+                active[activeCount++] = count - 1;
+                placed = true;
+                break;
+            }
+            if (!placed) {
+                active[slot] = active[--activeCount];
+            }
+        }
+        return count;
+    }
+
+    private void add(float px, float py) {
+        if (count == x.length) {
+            int capacity = Math.max(64, count * 2);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            active = Arrays.copyOf(active, capacity);
+        }
+        x[count] = px;
+        y[count] = py;
+        grid[row(py) * columns + column(px)] = count + 1;
+        count++;
+    }
+
+    // Is (px, py) at least minDistance from every point? Only the 5x5 cells around it can be closer.
+    private boolean isClear(float px, float py) {
+        int col = column(px);
+        int row = row(py);
+        float minSquared = minDistance * minDistance;
+        for (int r = Math.max(0, row - 2), r1 = Math.min(rows - 1, row + 2); r <= r1; r++) {
+            for (int c = Math.max(0, col - 2), c1 = Math.min(columns - 1, col + 2); c <= c1; c++) {
+                int other = grid[r * columns + c] - 1;
+                if (other >= 0) {
+                    float dx = x[other] - px;
+                    float dy = y[other] - py;
+                    if (dx * dx + dy * dy < minSquared) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private int column(float px) {
+        return Math.min(columns - 1, (int) ((px - left) / cellSize));
+    }
+
+    private int row(float py) {
+        return Math.min(rows - 1, (int) ((py - top) / cellSize));
+    }
+
+    // Points from the last sample() call
+    public int size() {
+        return count;
+    }
+
+    public float getX(int i) { return x[i]; }
+    public float getY(int i) { return y[i]; }
+}
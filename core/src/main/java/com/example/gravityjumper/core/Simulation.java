@@ -0,0 +1,149 @@
+// Simulation.java
+package com.example.gravityjumper.core;
+
+// The whole game world without rendering: player, current level, gravity and score.
+// One tick() is one fixed simulation step; GameView drives it, and tests and tools
+// can run it on a plain JVM as fast as they like.
+public class Simulation {
+    private final int levelWidth;
+    private final int levelHeight;
+    private final LevelPipeline levelPipeline;
+    private final PlayerBody player = new PlayerBody();
+    private Level level;
+    private GravityDirection gravity = GravityDirection.DOWN;
+    private GameListener listener;
+
+    private long tickCount = 0;
+    private int totalScore = 0;
+
+    // Optional timing of the collision pass for the frame timing overlay
+    private boolean collisionTiming = false;
+    private long lastCollisionNanos = 0;
+
+    // Levels are generated synchronously at each transition
+    public Simulation(int startLevel, int levelWidth, int levelHeight) {
+        this(startLevel, new LevelPipeline(levelWidth, levelHeight));
+    }
+
+    // Levels come from levelPipeline, which may generate them ahead on another thread
+    public Simulation(int startLevel, LevelPipeline levelPipeline) {
+        this.levelWidth = levelPipeline.getLevelWidth();
+        this.levelHeight = levelPipeline.getLevelHeight();
+        this.levelPipeline = levelPipeline;
+        startLevel(startLevel);
+    }
+
+    public void tick() {
+        tickCount++;
+
+        player.update(gravity);
+        Tracing.begin("checkCollisions");
+        try {
+            if (collisionTiming) {
+                long start = System.nanoTime();
+                level.checkCollisions(player);
+                lastCollisionNanos = System.nanoTime() - start;
+            } else {
+                level.checkCollisions(player);
+            }
+        } finally {
+            Tracing.end();
+        }
+
+        // Update obstacles that have movement; static ones are skipped entirely
+        level.getObstacleStore().updateMoving();
+
+        // Check if level is completed
+        if (level.isCompleted()) {
+            // Add level score to total score
+            totalScore += level.getScore();
+
+            // Create next level
+            startLevel(level.getLevelNumber() + 1);
+        }
+    }
+
+    // Start the current level over with a freshly generated copy; the level's score is lost
+    public void restartLevel() {
+        startLevel(level.getLevelNumber());
+    }
+
+    // Jump to levelNumber without banking the current level's score
+    public void skipToLevel(int levelNumber) {
+        startLevel(levelNumber);
+    }
+
+    private void startLevel(int levelNumber) {
+        Level previous = level;
+        level = levelPipeline.acquire(levelNumber);
+        // The old level is reused for a later one once nothing draws it
+        if (previous != null) {
+            levelPipeline.retire(previous, tickCount);
+        }
+        level.setListener(listener);
+
+        // Start the player near the center of the level
+        player.setX((float) levelWidth / 4);
+        player.setY((float) levelHeight / 4);
+        player.setVelocityX(0);
+        player.setVelocityY(0);
+        player.resetInterpolation();
+
+        if (listener != null) {
+            listener.onLevelStarted(level);
+        }
+    }
+
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+        level.setListener(listener);
+    }
+
+    public GravityDirection getGravity() {
+        return gravity;
+    }
+
+    public void setGravity(GravityDirection gravity) {
+        this.gravity = gravity;
+    }
+
+    public PlayerBody getPlayer() {
+        return player;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void setCollisionTiming(boolean enabled) {
+        collisionTiming = enabled;
+        lastCollisionNanos = 0;
+    }
+
+    // Time the last tick spent in level.checkCollisions(), if collision timing is enabled
+    public long getLastCollisionNanos() {
+        return lastCollisionNanos;
+    }
+
+    // Number of ticks run so far
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    // Score banked from completed levels (the current level's score is level.getScore())
+    public int getTotalScore() {
+        return totalScore;
+    }
+
+    public LevelPipeline getLevelPipeline() {
+        return levelPipeline;
+    }
+
+    public int getLevelWidth() {
+        return levelWidth;
+    }
+
+    public int getLevelHeight() {
+        return levelHeight;
+    }
+}
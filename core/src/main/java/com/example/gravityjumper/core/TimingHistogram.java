@@ -0,0 +1,86 @@
+// TimingHistogram.java
+package com.example.gravityjumper.core;
+
+import java.util.Arrays;
+
+// Rolling window of the last N durations with a fixed-bucket histogram over them, so mean and
+// percentiles are available every frame without sorting or allocating. Recording evicts the
+// oldest sample from both the window and the histogram.
+public class TimingHistogram {
+    private final long[] window;
+    private int head = 0;
+    private int count = 0;
+    private long sum = 0;
+
+    private final long bucketNanos;
+    // Last bucket collects everything at or above bucketNanos * (buckets.length - 1)
+    private final int[] buckets;
+
+    public TimingHistogram(int windowSize, long bucketNanos, int bucketCount) {
+        this.window = new long[windowSize];
+        this.bucketNanos = bucketNanos;
+        this.buckets = new int[bucketCount + 1];
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        if (count == window.length) {
+            long evicted = window[head];
+            buckets[bucketOf(evicted)]--;
+            sum -= evicted;
+        } else {
+            count++;
+        }
+        window[head] = nanos;
+        head = (head + 1) % window.length;
+        buckets[bucketOf(nanos)]++;
+        sum += nanos;
+    }
+
+    private int bucketOf(long nanos) {
+        long bucket = nanos / bucketNanos;
+        return bucket < buckets.length - 1 ? (int) bucket : buckets.length - 1;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getMean() {
+        return count > 0 ? sum / count : 0;
+    }
+
+    public long getMax() {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, window[i]);
+        }
+        return max;
+    }
+
+    // Duration that fraction (0..1] of the window is at or below, to bucket resolution (upper bound)
+    public long getPercentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length - 1; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return (i + 1) * bucketNanos;
+            }
+        }
+        // Falls in the overflow bucket; the window max is the best bound we have
+        return getMax();
+    }
+
+    public void reset() {
+        head = 0;
+        count = 0;
+        sum = 0;
+        Arrays.fill(buckets, 0);
+    }
+}
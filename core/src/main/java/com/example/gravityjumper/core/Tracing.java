@@ -0,0 +1,41 @@
+// Tracing.java
+package com.example.gravityjumper.core;
+
+// Named trace sections around core work (ticks, collisions, level generation).
+// Core has no Android dependency, so the app installs a Sink that forwards to android.os.Trace;
+// on a plain JVM the default sink does nothing. begin() and end() must pair up on the same thread.
+public final class Tracing {
+    public interface Sink {
+        void beginSection(String name);
+
+        void endSection();
+    }
+
+    private static final Sink NONE = new Sink() {
+        @Override
+        public void beginSection(String name) {
+        }
+
+        @Override
+        public void endSection() {
+        }
+    };
+
+    private static volatile Sink sink = NONE;
+
+    private Tracing() {
+    }
+
+    // Install the sink for all threads; null restores the no-op sink
+    public static void setSink(Sink newSink) {
+        sink = newSink != null ? newSink : NONE;
+    }
+
+    public static void begin(String name) {
+        sink.beginSection(name);
+    }
+
+    public static void end() {
+        sink.endSection();
+    }
+}
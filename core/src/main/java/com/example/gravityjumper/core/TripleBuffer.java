@@ -0,0 +1,57 @@
+// TripleBuffer.java
+package com.example.gravityjumper.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Lock-free hand-off of the latest value from one producer thread to one consumer thread.
+// Three preallocated buffers: the producer fills its back buffer and publish() swaps it with the
+// shared middle one; the consumer's acquire() swaps the middle one for its front buffer if it is newer.
+// Neither side ever waits or allocates, and neither touches a buffer the other one holds, so a
+// published buffer can be read without locks until the consumer's next acquire().
+// Intermediate values are dropped when the producer publishes faster than the consumer reads.
+public class TripleBuffer<T> {
+    // middle holds the index of the shared buffer, with FRESH set if the consumer hasn't taken it
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int backIndex = 0;  // Producer thread only
+    private int frontIndex = 2; // Consumer thread only
+    private boolean hasFront = false; // Consumer thread only; false until the first acquire() that finds a value
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    // Producer: the buffer to fill for the next publish(). Its old contents are whatever was
+    // published two or three rounds ago, so every field must be overwritten.
+    @SuppressWarnings("unchecked")
+    public T getBackBuffer() {
+        return (T) buffers[backIndex];
+    }
+
+    // Producer: hand the back buffer to the consumer, replacing any value it hasn't taken yet
+    public void publish() {
+        backIndex = middle.getAndSet(backIndex | FRESH) & INDEX_MASK;
+    }
+
+    // Consumer: the newest published buffer, or null if nothing has been published yet.
+    // The returned buffer stays untouched by the producer until the next acquire().
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            frontIndex = middle.getAndSet(frontIndex) & INDEX_MASK;
+            hasFront = true;
+        }
+        return hasFront ? (T) buffers[frontIndex] : null;
+    }
+
+    // Consumer: whether a buffer newer than the last acquire() is waiting
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
@@ -0,0 +1,108 @@
+// ViewportCuller.java
+package com.example.gravityjumper.core;
+
+import java.util.BitSet;
+
+// Filters a level's drawables against the camera rect before anything is drawn, and counts how
+// many were kept and culled for the timing overlay. Obstacles are found through the level's
+// ObstacleGrid, so the cost follows what's on screen rather than the level's obstacle count.
+// Grid queries go through the culler's own scratch state, so it can run on the render thread
+// while the simulation thread queries the same grid.
+public class ViewportCuller {
+    private final ObstacleGrid.Query query = new ObstacleGrid.Query();
+
+    private float viewLeft;
+    private float viewTop;
+    private float viewRight;
+    private float viewBottom;
+
+    // Indices into level.getObstacleStore() of the obstacles in view, in obstacle order
+    private int[] visibleObstacles = new int[64];
+    private int visibleObstacleCount = 0;
+    private int culledObstacleCount = 0;
+
+    // Indices into level.getCollectibleStore() of the collectibles in view
+    private int[] visibleCollectibles = new int[64];
+    private int visibleCollectibleCount = 0;
+    private int culledCollectibleCount = 0;
+
+    // Start a frame: set the camera rect (level coordinates) and zero the counters
+    public void setView(float left, float top, float right, float bottom) {
+        viewLeft = left;
+        viewTop = top;
+        viewRight = right;
+        viewBottom = bottom;
+        visibleObstacleCount = 0;
+        culledObstacleCount = 0;
+        visibleCollectibleCount = 0;
+        culledCollectibleCount = 0;
+    }
+
+    public boolean isVisible(float left, float top, float right, float bottom) {
+        return right >= viewLeft && left <= viewRight && bottom >= viewTop && top <= viewBottom;
+    }
+
+    // Find the level's obstacles in view. An obstacle is drawn from its corner at least
+    // minDrawWidth x minDrawHeight (its sprite size), which may be larger than its bounds.
+    // Returns the count; read them with getVisibleObstacle().
+    public int cullObstacles(Level level, int minDrawWidth, int minDrawHeight) {
+        ObstacleStore obstacles = level.getObstacleStore();
+        if (visibleObstacles.length < obstacles.size()) {
+            visibleObstacles = new int[obstacles.size()];
+        }
+
+        // The grid indexes obstacle bounds, so widen the query by the sprite overhang
+        ObstacleGrid grid = level.getObstacleGrid();
+        int found = grid.query(viewLeft - minDrawWidth, viewTop - minDrawHeight, viewRight, viewBottom, query);
+        visibleObstacleCount = 0;
+        for (int i = 0; i < found; i++) {
+            int index = query.getResultIndex(i);
+            float left = obstacles.getX(index);
+            float top = obstacles.getY(index);
+            float right = left + Math.max(obstacles.getWidth(index), minDrawWidth);
+            float bottom = top + Math.max(obstacles.getHeight(index), minDrawHeight);
+            if (isVisible(left, top, right, bottom)) {
+                visibleObstacles[visibleObstacleCount++] = index;
+            }
+        }
+        culledObstacleCount = obstacles.size() - visibleObstacleCount;
+        return visibleObstacleCount;
+    }
+
+    public int getVisibleObstacle(int i) {
+        return visibleObstacles[i];
+    }
+
+    // Find the uncollected collectibles drawn halfSize around their centers that are in view, through
+    // the store's grid. collected is the set of flags to go by (a snapshot's, on the render thread).
+    // Everything not returned counts as culled. Read them with getVisibleCollectible().
+    public int cullCollectibles(CollectibleStore collectibles, BitSet collected, float halfSize) {
+        if (visibleCollectibles.length < collectibles.size()) {
+            visibleCollectibles = new int[collectibles.size()];
+        }
+
+        int found = collectibles.query(viewLeft - halfSize, viewTop - halfSize,
+                viewRight + halfSize, viewBottom + halfSize, visibleCollectibles);
+        visibleCollectibleCount = 0;
+        for (int k = 0; k < found; k++) {
+            int index = visibleCollectibles[k];
+            float x = collectibles.getX(index);
+            float y = collectibles.getY(index);
+            if (!collected.get(index) && isVisible(x - halfSize, y - halfSize, x + halfSize, y + halfSize)) {
+                // Compacting in place: the write position never passes the read position
+                visibleCollectibles[visibleCollectibleCount++] = index;
+            }
+        }
+        culledCollectibleCount = collectibles.size() - visibleCollectibleCount;
+        return visibleCollectibleCount;
+    }
+
+    public int getVisibleCollectible(int i) {
+        return visibleCollectibles[i];
+    }
+
+    public int getVisibleObstacleCount() { return visibleObstacleCount; }
+    public int getCulledObstacleCount() { return culledObstacleCount; }
+    public int getVisibleCollectibleCount() { return visibleCollectibleCount; }
+    public int getCulledCollectibleCount() { return culledCollectibleCount; }
+}
@@ -0,0 +1,34 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class BotRunnerTest {
+
+    private static final int LEVEL_WIDTH = 2160;
+    private static final int LEVEL_HEIGHT = 4800;
+    // Ten minutes of game time
+    private static final long MAX_TICKS = 36_000;
+
+    @Test
+    public void greedyBot_completesEarlyLevels() {
+        BotRunner runner = new BotRunner(new GreedyBot(), LEVEL_WIDTH, LEVEL_HEIGHT);
+        for (int level = 1; level <= 10; level++) {
+            assertTrue("level " + level, runner.playLevel(level, MAX_TICKS));
+        }
+        assertEquals(10, runner.getLevelsCompleted());
+        assertEquals(0, runner.getLevelsTimedOut());
+    }
+
+    @Test
+    public void botRuns_areReproducible() {
+        BotRunner first = new BotRunner(new GreedyBot(), LEVEL_WIDTH, LEVEL_HEIGHT);
+        BotRunner second = new BotRunner(new GreedyBot(), LEVEL_WIDTH, LEVEL_HEIGHT);
+        for (int level = 20; level <= 25; level++) {
+            assertEquals(first.playLevel(level, MAX_TICKS), second.playLevel(level, MAX_TICKS));
+            assertEquals(first.getTicks(), second.getTicks());
+        }
+    }
+}
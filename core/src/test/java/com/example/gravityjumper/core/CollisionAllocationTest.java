@@ -0,0 +1,62 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+/**
+ * Guards the per-tick collision pass against heap allocations.
+ */
+public class CollisionAllocationTest {
+
+    private static final GravityDirection[] DIRECTIONS = GravityDirection.values();
+    private static final int ROUNDS = 5;
+    private static final int TICKS = 5000;
+
+    @Test
+    public void collisionPass_doesNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // Cost of the measurement itself
+        long calibrateStart = threads.getThreadAllocatedBytes(threadId);
+        long calibrateEnd = threads.getThreadAllocatedBytes(threadId);
+        long overhead = calibrateEnd - calibrateStart;
+
+        // Replay the same deterministic session several times. The first rounds pay for class
+        // loading, linkage and JIT deoptimisation; a real per-tick allocation would show up in
+        // every round, so the quietest round must be exactly zero.
+        long fewestBytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            Level level = new Level(50, 2160, 4800);
+            PlayerBody player = newPlayer();
+
+            long start = threads.getThreadAllocatedBytes(threadId);
+            runTicks(level, player, TICKS);
+            long allocated = threads.getThreadAllocatedBytes(threadId) - start - overhead;
+            fewestBytes = Math.min(fewestBytes, allocated);
+        }
+
+        assertEquals("bytes allocated by " + TICKS + " collision ticks", 0, fewestBytes);
+    }
+
+    private static PlayerBody newPlayer() {
+        PlayerBody player = new PlayerBody();
+        player.setX(540);
+        player.setY(1200);
+        player.resetInterpolation();
+        return player;
+    }
+
+    private static void runTicks(Level level, PlayerBody player, int count) {
+        for (int tick = 0; tick < count; tick++) {
+            // Change gravity every 1.5 seconds so the player bounces around the level
+            GravityDirection gravity = DIRECTIONS[(tick / 90) % DIRECTIONS.length];
+            player.update(gravity);
+            level.checkCollisions(player);
+        }
+    }
+}
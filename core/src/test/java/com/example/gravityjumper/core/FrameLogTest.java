@@ -0,0 +1,62 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class FrameLogTest {
+
+    @Test
+    public void writtenRecords_readBackInOrder() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // Small buffer so the log is written across many buffer swaps
+        FrameLogWriter writer = new FrameLogWriter(bytes, 64, 1234L);
+        int frames = 0;
+        for (int level = 1; level <= 3; level++) {
+            writer.levelStarted(level * 1000L, level, level * 600);
+            for (int i = 0; i < 50; i++) {
+                writer.frame(16_667_000L + i, 2_000_000L + i * 1000L, i % 3);
+                frames++;
+                // Give the writer thread time to hand buffers back so nothing is dropped
+                sleepBriefly();
+            }
+        }
+        writer.close();
+        assertEquals(0, writer.getDroppedRecords());
+
+        FrameLogReader reader = new FrameLogReader(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(1234L, reader.getSessionStartMillis());
+        int readFrames = 0;
+        for (int level = 1; level <= 3; level++) {
+            assertTrue(reader.next());
+            assertEquals(FrameLog.LEVEL_STARTED, reader.getType());
+            assertEquals(level * 1000L, reader.getTickCount());
+            assertEquals(level, reader.getLevelNumber());
+            assertEquals(level * 600, reader.getTotalScore());
+            for (int i = 0; i < 50; i++) {
+                assertTrue(reader.next());
+                assertEquals(FrameLog.FRAME, reader.getType());
+                assertEquals(16_667, reader.getIntervalMicros());
+                assertEquals(2_000 + i, reader.getWorkMicros());
+                assertEquals(i % 3, reader.getTicks());
+                readFrames++;
+            }
+        }
+        assertFalse(reader.next());
+        assertEquals(frames, readFrames);
+    }
+
+    private static void sleepBriefly() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
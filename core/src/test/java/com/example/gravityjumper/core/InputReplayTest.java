@@ -0,0 +1,58 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class InputReplayTest {
+
+    private static final int LEVEL_WIDTH = 2160;
+    private static final int LEVEL_HEIGHT = 4800;
+
+    @Test
+    public void recordedSession_replaysTickForTick() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Simulation played = new Simulation(3, LEVEL_WIDTH, LEVEL_HEIGHT);
+        played.setGravity(GravityDirection.LEFT);
+        InputRecorder recorder = new InputRecorder(bytes, 1234L, 3, LEVEL_WIDTH, LEVEL_HEIGHT, GravityDirection.LEFT);
+
+        // Swipe in a random direction every half second or so
+        Random random = new Random(42);
+        GravityDirection[] directions = GravityDirection.values();
+        for (int i = 0; i < 5000; i++) {
+            if (random.nextInt(30) == 0) {
+                GravityDirection gravity = directions[random.nextInt(directions.length)];
+                recorder.gravity(played.getTickCount(), gravity);
+                played.setGravity(gravity);
+            }
+            played.tick();
+            if (i == 2500) {
+                recorder.flush(played.getTickCount());
+            }
+        }
+        recorder.close(played.getTickCount());
+
+        InputReplay replay = new InputReplay(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(1234L, replay.getSessionStartMillis());
+        assertEquals(5000, replay.getEndTick());
+
+        for (int pass = 0; pass < 2; pass++) {
+            replay.rewind();
+            Simulation replayed = replay.createSimulation();
+            replay.run(replayed);
+
+            assertEquals(played.getTickCount(), replayed.getTickCount());
+            assertEquals(played.getGravity(), replayed.getGravity());
+            assertEquals(played.getLevel().getLevelNumber(), replayed.getLevel().getLevelNumber());
+            assertEquals(played.getTotalScore(), replayed.getTotalScore());
+            assertEquals(played.getLevel().getScore(), replayed.getLevel().getScore());
+            assertEquals(played.getPlayer().getX(), replayed.getPlayer().getX(), 0f);
+            assertEquals(played.getPlayer().getY(), replayed.getPlayer().getY(), 0f);
+        }
+    }
+}
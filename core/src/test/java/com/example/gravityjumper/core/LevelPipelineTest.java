@@ -0,0 +1,195 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LevelPipelineTest {
+
+    private static final int LEVEL_WIDTH = 2160;
+    private static final int LEVEL_HEIGHT = 4800;
+
+    @Test
+    public void prefetchedLevels_matchDirectlyGeneratedLevels() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            LevelPipeline pipeline = new LevelPipeline(LEVEL_WIDTH, LEVEL_HEIGHT, 3, executor);
+            for (int n = 1; n <= 6; n++) {
+                assertSameLevel(new Level(n, LEVEL_WIDTH, LEVEL_HEIGHT), pipeline.acquire(n));
+                assertEquals(3, pipeline.getPendingCount());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void skipTo_generatesTargetWindowOnly() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            LevelPipeline pipeline = new LevelPipeline(LEVEL_WIDTH, LEVEL_HEIGHT, 2, executor);
+            pipeline.acquire(1);
+            pipeline.skipTo(20);
+            assertEquals(2, pipeline.getPendingCount());
+
+            Level level = pipeline.acquire(20);
+            assertEquals(20, level.getLevelNumber());
+            assertSameLevel(new Level(20, LEVEL_WIDTH, LEVEL_HEIGHT), level);
+            assertEquals(2, pipeline.getPendingCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void restartLevel_startsFreshCopyOfSameLevel() {
+        Simulation simulation = new Simulation(3, new LevelPipeline(LEVEL_WIDTH, LEVEL_HEIGHT));
+        Level first = simulation.getLevel();
+        first.getCollectibles().get(0).collect();
+
+        simulation.restartLevel();
+        assertEquals(3, simulation.getLevel().getLevelNumber());
+        assertFalse(simulation.getLevel().getCollectibles().get(0).isCollected());
+        assertEquals(0, simulation.getLevelPipeline().getPendingCount());
+    }
+
+    @Test
+    public void pooledLevels_areReusedAndMatchFreshLevels() {
+        LevelPipeline pipeline = new LevelPipeline(LEVEL_WIDTH, LEVEL_HEIGHT);
+        Simulation simulation = new Simulation(40, pipeline);
+
+        for (int n = 1; n <= 30; n++) {
+            simulation.skipToLevel(n);
+            assertSameLevel(new Level(n, LEVEL_WIDTH, LEVEL_HEIGHT), simulation.getLevel());
+        }
+        // The current level and the one just left take turns
+        assertEquals(2, pipeline.getLevelPool().getCreatedCount());
+        assertEquals(1, pipeline.getLevelPool().getFreeCount());
+    }
+
+    @Test
+    public void acquire_waitsThroughInterruptForLevelBeingGenerated() throws InterruptedException {
+        CountDownLatch generating = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "Prefetch"));
+        blockPrefetchThread(generating, proceed);
+        try {
+            LevelPipeline pipeline = new LevelPipeline(LEVEL_WIDTH, LEVEL_HEIGHT, 1, executor);
+            pipeline.acquire(1);
+            assertTrue(generating.await(5, TimeUnit.SECONDS));
+
+            Thread release = new Thread(() -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    // Release early
+                }
+                proceed.countDown();
+            });
+            release.start();
+            Thread.currentThread().interrupt();
+            Level level = pipeline.acquire(2);
+            assertTrue(Thread.interrupted());
+            release.join();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+            // Levels 1, 2 and the prefetched 3; level 2 wasn't generated a second time
+            assertSameLevel(new Level(2, LEVEL_WIDTH, LEVEL_HEIGHT), level);
+            assertEquals(3, pipeline.getLevelPool().getCreatedCount());
+        } finally {
+            Thread.interrupted();
+            Tracing.setSink(null);
+            proceed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void clear_recyclesLevelStillGenerating() throws InterruptedException {
+        CountDownLatch generating = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "Prefetch"));
+        blockPrefetchThread(generating, proceed);
+        try {
+            LevelPipeline pipeline = new LevelPipeline(LEVEL_WIDTH, LEVEL_HEIGHT, 1, executor);
+            pipeline.acquire(1);
+            assertTrue(generating.await(5, TimeUnit.SECONDS));
+
+            pipeline.clear();
+            proceed.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+            // Level 2 finished generating after it was dropped and went back to the pool
+            assertEquals(2, pipeline.getLevelPool().getCreatedCount());
+            assertEquals(1, pipeline.getLevelPool().getFreeCount());
+        } finally {
+            Tracing.setSink(null);
+            proceed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void deferredRecycling_holdsRetiredLevelUntilRendererPassesIt() {
+        LevelPool pool = new LevelPool(LEVEL_WIDTH, LEVEL_HEIGHT);
+        pool.setDeferredRecycling(true);
+        Level level = pool.obtain(1);
+
+        pool.retire(level, 10);
+        pool.release(10);
+        assertEquals(0, pool.getFreeCount());
+        pool.release(11);
+        assertEquals(1, pool.getFreeCount());
+        assertTrue(pool.obtain(2) == level);
+        assertEquals(2, level.getLevelNumber());
+    }
+
+    // Hold the "Prefetch" thread in its next trace section (inside LevelPool.obtain, in the level's
+    // generation), counting down generating once it's there, until proceed opens
+    private static void blockPrefetchThread(CountDownLatch generating, CountDownLatch proceed) {
+        Tracing.setSink(new Tracing.Sink() {
+            @Override
+            public void beginSection(String name) {
+                if (Thread.currentThread().getName().equals("Prefetch")) {
+                    generating.countDown();
+                    try {
+                        proceed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+
+            @Override
+            public void endSection() {
+            }
+        });
+    }
+
+    private static void assertSameLevel(Level expected, Level actual) {
+        assertEquals(expected.getLevelNumber(), actual.getLevelNumber());
+        List<Obstacle> a = expected.getObstacles();
+        List<Obstacle> b = actual.getObstacles();
+        assertEquals(a.size(), b.size());
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.get(i).getX(), b.get(i).getX(), 0f);
+            assertEquals(a.get(i).getY(), b.get(i).getY(), 0f);
+        }
+        for (int i = 0; i < expected.getCollectibles().size(); i++) {
+            assertEquals(expected.getCollectibles().get(i).getX(), actual.getCollectibles().get(i).getX(), 0f);
+            assertEquals(expected.getCollectibles().get(i).getY(), actual.getCollectibles().get(i).getY(), 0f);
+        }
+        assertEquals(expected.getGoalLeft(), actual.getGoalLeft(), 0f);
+        assertEquals(expected.getGoalTop(), actual.getGoalTop(), 0f);
+    }
+}
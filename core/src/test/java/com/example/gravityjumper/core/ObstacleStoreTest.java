@@ -0,0 +1,36 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ObstacleStoreTest {
+
+    @Test
+    public void updateMoving_movesOnlyObstaclesWithSpeed_andViewsFollowTheArrays() {
+        ObstacleStore store = new ObstacleStore();
+        int wall = store.add(0, 0, 100, 50, 0, 0, 0, ObstacleStore.TYPE_WALL);
+        int mover = store.add(500, 300, 200, 40, 0.1f, 0.2f, 4, ObstacleStore.TYPE_PLATFORM);
+
+        store.updateMoving();
+        store.updateMoving();
+
+        assertEquals(0, store.getX(wall), 0f);
+        assertEquals(492, store.getX(mover), 0f);
+        // Collision box follows the move: 10% of 200 trimmed from each side
+        assertEquals(512, store.getCollisionLeft(mover), 0f);
+        assertEquals(672, store.getCollisionRight(mover), 0f);
+
+        Obstacle view = store.getViews().get(mover);
+        assertEquals(492, view.getX(), 0f);
+        assertEquals(ObstacleStore.TYPE_PLATFORM, view.getType());
+
+        // Cleared stores hand back the same views for the same indices
+        store.clear();
+        assertEquals(0, store.getViews().size());
+        store.add(10, 20, 30, 40, 0, 0, 0, ObstacleStore.TYPE_WALL);
+        assertTrue(store.getViews().get(0) == store.getView(0));
+        assertEquals(10, store.getView(0).getX(), 0f);
+    }
+}
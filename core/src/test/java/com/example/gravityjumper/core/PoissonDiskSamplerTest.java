@@ -0,0 +1,43 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PoissonDiskSamplerTest {
+
+    @Test
+    public void samples_areSpacedAndFillTheRectangle() {
+        PoissonDiskSampler sampler = new PoissonDiskSampler(100);
+        int count = sampler.sample(50, 80, 1050, 2080, new Random(7));
+
+        // A maximal set at spacing 100 covers the rectangle, so it can't be sparse
+        assertTrue("count " + count, count > 1000 * 2000 / (200 * 200));
+        for (int i = 0; i < count; i++) {
+            assertTrue(sampler.getX(i) >= 50 && sampler.getX(i) < 1050);
+            assertTrue(sampler.getY(i) >= 80 && sampler.getY(i) < 2080);
+            for (int j = i + 1; j < count; j++) {
+                float dx = sampler.getX(i) - sampler.getX(j);
+                float dy = sampler.getY(i) - sampler.getY(j);
+                assertTrue(dx * dx + dy * dy >= 100 * 100);
+            }
+        }
+    }
+
+    @Test
+    public void sameSeed_givesSamePoints() {
+        PoissonDiskSampler first = new PoissonDiskSampler(150);
+        PoissonDiskSampler second = new PoissonDiskSampler(150);
+        int count = first.sample(0, 0, 2000, 4000, new Random(42));
+        // Reused arrays from a different run must not leak into the next one
+        second.sample(0, 0, 3000, 1000, new Random(1));
+        assertEquals(count, second.sample(0, 0, 2000, 4000, new Random(42)));
+        for (int i = 0; i < count; i++) {
+            assertEquals(first.getX(i), second.getX(i), 0f);
+            assertEquals(first.getY(i), second.getY(i), 0f);
+        }
+    }
+}
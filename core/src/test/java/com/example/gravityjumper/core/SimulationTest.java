@@ -0,0 +1,188 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class SimulationTest {
+
+    private static final int LEVEL_WIDTH = 2160;
+    private static final int LEVEL_HEIGHT = 4800;
+
+    @Test
+    public void sameLevelNumber_generatesSameLevel() {
+        Level first = new Level(37, LEVEL_WIDTH, LEVEL_HEIGHT);
+        Level second = new Level(37, LEVEL_WIDTH, LEVEL_HEIGHT);
+
+        List<Obstacle> a = first.getObstacles();
+        List<Obstacle> b = second.getObstacles();
+        assertEquals(4 + 5 + 37, a.size());
+        assertEquals(a.size(), b.size());
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.get(i).getX(), b.get(i).getX(), 0f);
+            assertEquals(a.get(i).getY(), b.get(i).getY(), 0f);
+            assertEquals(a.get(i).getWidth(), b.get(i).getWidth());
+            assertEquals(a.get(i).getHeight(), b.get(i).getHeight());
+        }
+        for (int i = 0; i < first.getCollectibles().size(); i++) {
+            assertEquals(first.getCollectibles().get(i).getX(), second.getCollectibles().get(i).getX(), 0f);
+            assertEquals(first.getCollectibles().get(i).getY(), second.getCollectibles().get(i).getY(), 0f);
+        }
+        assertEquals(first.getGoalLeft(), second.getGoalLeft(), 0f);
+        assertEquals(first.getGoalTop(), second.getGoalTop(), 0f);
+    }
+
+    @Test
+    public void crowdedLevels_placeCollectiblesAndGoalClearOfObstacles() {
+        // Level 900 has over nine hundred platforms; random retries used to give up long before.
+        // Past level 1000 some levels have no candidate spot with room for the goal.
+        Level level = new Level(1, LEVEL_WIDTH, LEVEL_HEIGHT);
+        for (int levelNumber = 1; levelNumber <= 2100; levelNumber += 37) {
+            level.reset(levelNumber);
+            ObstacleStore obstacles = level.getObstacleStore();
+            CollectibleStore collectibles = level.getCollectibleStore();
+            assertEquals(3, collectibles.size());
+            for (int i = 0; i < obstacles.size(); i++) {
+                for (int c = 0; c < collectibles.size(); c++) {
+                    float x = collectibles.getX(c);
+                    float y = collectibles.getY(c);
+                    float r = CollectibleStore.RADIUS;
+                    assertTrue("level " + levelNumber, !obstacles.overlaps(i, x - r, y - r, x + r, y + r));
+                }
+                assertTrue("level " + levelNumber, !obstacles.overlaps(i, level.getGoalLeft(), level.getGoalTop(),
+                        level.getGoalRight(), level.getGoalBottom()));
+            }
+        }
+    }
+
+    @Test
+    public void movingObstacle_stillCollidesAfterLeavingItsGridCells() {
+        Level level = new Level(1, LEVEL_WIDTH, LEVEL_HEIGHT);
+        ObstacleStore obstacles = level.getObstacleStore();
+        int platform = -1;
+        for (int i = 0; i < obstacles.size() && platform < 0; i++) {
+            if (obstacles.getType(i) == ObstacleStore.TYPE_PLATFORM && obstacles.getX(i) > 1000) {
+                platform = i;
+            }
+        }
+        assertTrue(platform >= 0);
+
+        // Slide it three grid cells left, well clear of the cells it was indexed in
+        obstacles.setSpeed(platform, 20);
+        for (int tick = 0; tick < 3 * ObstacleGrid.CELL_SIZE / 20; tick++) {
+            obstacles.updateMoving();
+        }
+
+        // A player dropped onto its new position is pushed out of it
+        PlayerBody player = new PlayerBody();
+        float left = obstacles.getCollisionLeft(platform);
+        float top = obstacles.getCollisionTop(platform);
+        player.setX(left);
+        player.setY(top - player.getHeight() + 5);
+        player.resetInterpolation();
+        // Nothing else is near, so only the moved platform can push the player
+        for (int i = 0; i < obstacles.size(); i++) {
+            float playerLeft = player.getX() - player.getWidth();
+            float playerTop = player.getY() - player.getHeight();
+            assertEquals(i == platform, obstacles.overlaps(i, playerLeft, playerTop,
+                    playerLeft + 3 * player.getWidth(), playerTop + 3 * player.getHeight()));
+        }
+        level.checkCollisions(player);
+        assertTrue(!obstacles.overlaps(platform, player.getX(), player.getY(),
+                player.getX() + player.getWidth(), player.getY() + player.getHeight()));
+    }
+
+    @Test
+    public void gravity_pullsPlayerInEachDirection() {
+        for (GravityDirection gravity : GravityDirection.values()) {
+            PlayerBody player = new PlayerBody();
+            for (int i = 0; i < 10; i++) {
+                player.update(gravity);
+            }
+            switch (gravity) {
+                case DOWN:
+                    assertTrue(player.getY() > 100);
+                    break;
+                case UP:
+                    assertTrue(player.getY() < 100);
+                    break;
+                case LEFT:
+                    assertTrue(player.getX() < 100);
+                    break;
+                case RIGHT:
+                    assertTrue(player.getX() > 100);
+                    break;
+            }
+        }
+    }
+
+    @Test
+    public void sameInput_producesSameSession() {
+        Simulation first = new Simulation(3, LEVEL_WIDTH, LEVEL_HEIGHT);
+        Simulation second = new Simulation(3, LEVEL_WIDTH, LEVEL_HEIGHT);
+        runScripted(first, 20000);
+        runScripted(second, 20000);
+
+        assertEquals(first.getLevel().getLevelNumber(), second.getLevel().getLevelNumber());
+        assertEquals(first.getPlayer().getX(), second.getPlayer().getX(), 0f);
+        assertEquals(first.getPlayer().getY(), second.getPlayer().getY(), 0f);
+        assertEquals(first.getLevel().getScore(), second.getLevel().getScore());
+        assertEquals(first.getTotalScore(), second.getTotalScore());
+    }
+
+    @Test
+    public void completingLevel_banksScoreAndStartsNextLevel() {
+        Simulation simulation = new Simulation(1, LEVEL_WIDTH, LEVEL_HEIGHT);
+        Level level = simulation.getLevel();
+        PlayerBody player = simulation.getPlayer();
+        int size = player.getWidth();
+
+        // Drop the player straight onto each collectible, then onto the goal
+        for (Collectible collectible : level.getCollectibles()) {
+            placeAndTick(simulation, collectible.getX() - size / 2f, collectible.getY() - size / 2f);
+            assertTrue(collectible.isCollected());
+        }
+        placeAndTick(simulation, level.getGoalLeft(), level.getGoalTop());
+
+        assertTrue(level.isCompleted());
+        assertEquals(2, simulation.getLevel().getLevelNumber());
+        assertEquals(3 * 100 + 500 + 500, simulation.getTotalScore());
+        assertEquals(LEVEL_WIDTH / 4f, player.getX(), 0f);
+    }
+
+    @Test
+    public void headlessTicks_runAtThousandsPerSecond() {
+        Simulation simulation = new Simulation(100, LEVEL_WIDTH, LEVEL_HEIGHT);
+        runScripted(simulation, 10000); // Warm up
+
+        int ticks = 200000;
+        long start = System.nanoTime();
+        runScripted(simulation, ticks);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // Far below what the JIT achieves; this only catches gross regressions
+        assertTrue("ticks/sec " + ticks / seconds, ticks / seconds > 10000);
+    }
+
+    private static void placeAndTick(Simulation simulation, float x, float y) {
+        PlayerBody player = simulation.getPlayer();
+        player.setX(x);
+        player.setY(y);
+        player.setVelocityX(0);
+        player.setVelocityY(0);
+        player.resetInterpolation();
+        simulation.tick();
+    }
+
+    // Cycle gravity every 1.5 seconds of game time
+    private static void runScripted(Simulation simulation, int ticks) {
+        GravityDirection[] directions = GravityDirection.values();
+        for (int i = 0; i < ticks; i++) {
+            simulation.setGravity(directions[(int) (simulation.getTickCount() / 90) % directions.length]);
+            simulation.tick();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class TimingHistogramTest {
+
+    @Test
+    public void percentiles_coverOnlyTheRollingWindow() {
+        TimingHistogram histogram = new TimingHistogram(100, 1_000, 100);
+
+        // 99 fast samples and one slow one
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_500);
+        }
+        histogram.record(50_500);
+        assertEquals(100, histogram.getCount());
+        assertEquals(2_000, histogram.getPercentile(0.5));
+        assertEquals(2_000, histogram.getPercentile(0.99));
+        assertEquals(51_000, histogram.getPercentile(0.999));
+
+        // Push the slow sample out of the window
+        for (int i = 0; i < 100; i++) {
+            histogram.record(1_500);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(2_000, histogram.getPercentile(0.999));
+        assertEquals(1_500, histogram.getMean());
+    }
+
+    @Test
+    public void frameTimings_countsJankAndLows() {
+        long budget = 16_666_667;
+        FrameTimings timings = new FrameTimings(budget);
+        long now = 1;
+        for (int i = 0; i < 200; i++) {
+            timings.beginFrame(now);
+            timings.add(FramePhase.DRAW, 1_000_000);
+            timings.endFrame();
+            // Every 50th frame misses two vsyncs
+            now += (i % 50 == 49) ? 3 * budget : budget;
+        }
+        // 199 intervals, three of them slow
+        assertEquals(3, timings.getJankCount());
+        assertEquals(1e9f * 199 / (196 * budget + 3 * 3 * budget), timings.getFps(), 0.5f);
+        assertEquals(20f, timings.getLowFps(0.01), 1f);
+        assertEquals(60f, timings.getLowFps(0.5), 1f);
+        assertEquals(1_000_000, timings.getPhase(FramePhase.DRAW).getMean());
+    }
+}
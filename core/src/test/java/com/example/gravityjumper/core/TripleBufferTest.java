@@ -0,0 +1,70 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TripleBufferTest {
+
+    // Stand-in for a pooled snapshot: two fields the producer always writes together
+    private static class Pair {
+        long a;
+        long b;
+    }
+
+    @Test
+    public void acquire_returnsLatestPublishedAndKeepsItUntilNextAcquire() {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+        assertNull(buffer.acquire());
+
+        for (int i = 1; i <= 3; i++) {
+            buffer.getBackBuffer().a = i;
+            buffer.publish();
+        }
+        assertTrue(buffer.hasFresh());
+        Pair front = buffer.acquire();
+        assertEquals(3, front.a);
+        assertFalse(buffer.hasFresh());
+
+        // Further publishes never write into the buffer the consumer holds
+        for (int i = 4; i <= 10; i++) {
+            Pair back = buffer.getBackBuffer();
+            assertTrue(back != front);
+            back.a = i;
+            buffer.publish();
+        }
+        assertEquals(3, front.a);
+        assertEquals(10, buffer.acquire().a);
+    }
+
+    @Test
+    public void concurrentReader_neverSeesTornOrStaleValues() throws InterruptedException {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+        final long count = 200_000;
+
+        Thread producer = new Thread(() -> {
+            for (long i = 1; i <= count; i++) {
+                Pair back = buffer.getBackBuffer();
+                back.a = i;
+                back.b = -i;
+                buffer.publish();
+            }
+        });
+        producer.start();
+
+        long last = 0;
+        while (last < count) {
+            Pair front = buffer.acquire();
+            if (front == null) {
+                continue;
+            }
+            assertEquals(-front.a, front.b);
+            assertTrue(front.a >= last);
+            last = front.a;
+        }
+        producer.join();
+    }
+}
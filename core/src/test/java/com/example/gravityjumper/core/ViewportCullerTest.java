@@ -0,0 +1,75 @@
+package com.example.gravityjumper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ViewportCullerTest {
+
+    @Test
+    public void cullObstacles_keepsExactlyTheObstaclesInView() {
+        Level level = new Level(200, 2160, 4800);
+        List<Obstacle> obstacles = level.getObstacles();
+        ViewportCuller culler = new ViewportCuller();
+        int spriteWidth = 302;
+        int spriteHeight = 200;
+
+        culler.setView(500, 1200, 1580, 3600);
+        int visible = culler.cullObstacles(level, spriteWidth, spriteHeight);
+
+        // Brute force over every obstacle agrees with the grid-backed cull
+        int expected = 0;
+        for (Obstacle obstacle : obstacles) {
+            float right = obstacle.getX() + Math.max(obstacle.getWidth(), spriteWidth);
+            float bottom = obstacle.getY() + Math.max(obstacle.getHeight(), spriteHeight);
+            if (culler.isVisible(obstacle.getX(), obstacle.getY(), right, bottom)) {
+                expected++;
+            }
+        }
+        assertEquals(expected, visible);
+        assertEquals(obstacles.size() - visible, culler.getCulledObstacleCount());
+        assertTrue(culler.getCulledObstacleCount() > 0);
+
+        for (int i = 1; i < visible; i++) {
+            assertTrue(culler.getVisibleObstacle(i - 1) < culler.getVisibleObstacle(i));
+        }
+    }
+
+    @Test
+    public void cullCollectibles_keepsUncollectedCollectiblesInView() {
+        CollectibleStore store = new CollectibleStore(2160, 4800);
+        for (int i = 0; i < 2000; i++) {
+            store.add(50 + (i * 37) % 2060, 50 + (i * 53) % 4700);
+        }
+        store.index();
+        store.collect(7);
+        store.collect(1500);
+        BitSet collected = new BitSet();
+        store.copyCollected(collected);
+
+        ViewportCuller culler = new ViewportCuller();
+        culler.setView(500, 1200, 1580, 3600);
+        int visible = culler.cullCollectibles(store, collected, CollectibleStore.RADIUS);
+
+        // Brute force over every collectible agrees with the grid-backed cull
+        int expected = 0;
+        float r = CollectibleStore.RADIUS;
+        for (int i = 0; i < store.size(); i++) {
+            float x = store.getX(i);
+            float y = store.getY(i);
+            if (!store.isCollected(i) && culler.isVisible(x - r, y - r, x + r, y + r)) {
+                expected++;
+            }
+        }
+        assertEquals(expected, visible);
+        assertEquals(1998, store.getRemaining());
+        assertEquals(store.size() - visible, culler.getCulledCollectibleCount());
+        for (int i = 0; i < visible; i++) {
+            assertTrue(!store.isCollected(culler.getVisibleCollectible(i)));
+        }
+    }
+}
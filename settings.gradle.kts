@@ -21,3 +21,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "Gravity Jumper"
 include(":app")
+include(":core")
+include(":benchmark")